@@ -14,14 +14,21 @@ import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -44,18 +51,22 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
 
     private final VideoGateway videoGateway;
 
+    private final Executor mediaExecutor;
+
     public DefaultCreateVideoUseCase(
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway
+            final VideoGateway videoGateway,
+            final Executor mediaExecutor
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
     }
 
     @Override
@@ -94,41 +105,40 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
 
     private Video create(final CreateVideoCommand aCommand, final Video aVideo) {
         final var anId = aVideo.getId();
+        final var uploads = new MediaUploads(this.mediaExecutor);
 
         try {
-            final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VIDEO, it)))
-                    .orElse(null);
+            final var aVideoMedia = uploads.submit(aCommand.getVideo(),
+                    it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VIDEO, it)));
+
+            final var aTrailerMedia = uploads.submit(aCommand.getTrailer(),
+                    it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(TRAILER, it)));
 
-            final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(TRAILER, it)))
-                    .orElse(null);
+            final var aBannerMedia = uploads.submit(aCommand.getBanner(),
+                    it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(BANNER, it)));
 
-            final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(BANNER, it)))
-                    .orElse(null);
+            final var aThumbnailMedia = uploads.submit(aCommand.getThumbnail(),
+                    it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL, it)));
 
-            final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL, it)))
-                    .orElse(null);
+            final var aThumbHalfMedia = uploads.submit(aCommand.getThumbnailHalf(),
+                    it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL_HALF, it)));
 
-            final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL_HALF, it)))
-                    .orElse(null);
+            uploads.awaitAll();
 
             return this.videoGateway.create(
                     aVideo
-                            .updateVideoMedia(aVideoMedia)
-                            .updateTrailerMedia(aTrailerMedia)
-                            .updateBannerMedia(aBannerMedia)
-                            .updateThumbnailMedia(aThumbnailMedia)
-                            .updateThumbnailHalfMedia(aThumbHalfMedia)
+                            .updateVideoMedia(aVideoMedia.join())
+                            .updateTrailerMedia(aTrailerMedia.join())
+                            .updateBannerMedia(aBannerMedia.join())
+                            .updateThumbnailMedia(aThumbnailMedia.join())
+                            .updateThumbnailHalfMedia(aThumbHalfMedia.join())
             );
         } catch (final Throwable t) {
+            uploads.cancelAll();
             this.mediaResourceGateway.clearResources(anId);
             throw InternalErrorException.with(
                     "An error on create video was observed [videoId:%s]".formatted(anId.getValue()),
-                    t
+                    t instanceof CompletionException ? t.getCause() : t
             );
         }
     }
@@ -174,4 +184,75 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         return ids.stream().map(mapper).collect(Collectors.toSet());
     }
 
+    // uploads run in parallel on the media executor, the first failure fails them all
+    private static final class MediaUploads {
+
+        private final Executor executor;
+
+        private final List<CompletableFuture<?>> uploads = new ArrayList<>();
+
+        private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+        private final Set<Thread> running = new HashSet<>();
+
+        private boolean cancelled;
+
+        private MediaUploads(final Executor executor) {
+            this.executor = executor;
+        }
+
+        private <T> CompletableFuture<T> submit(final Optional<Resource> aResource, final Function<Resource, T> store) {
+            if (aResource.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            final var upload = CompletableFuture.supplyAsync(() -> {
+                started();
+                try {
+                    return store.apply(aResource.get());
+                } finally {
+                    finished();
+                }
+            }, this.executor);
+
+            upload.whenComplete((it, error) -> {
+                if (error != null) {
+                    this.firstFailure.completeExceptionally(error);
+                }
+            });
+            this.uploads.add(upload);
+            return upload;
+        }
+
+        // returns once every upload succeeded, or rethrows the first failure without waiting for the others
+        private void awaitAll() {
+            CompletableFuture.anyOf(all(), this.firstFailure).join();
+        }
+
+        // pending uploads never start, running ones are interrupted and waited for so none writes after the cleanup
+        private void cancelAll() {
+            synchronized (this) {
+                this.cancelled = true;
+                this.running.forEach(Thread::interrupt);
+            }
+            all().exceptionally(it -> null).join();
+        }
+
+        private CompletableFuture<Void> all() {
+            return CompletableFuture.allOf(this.uploads.toArray(CompletableFuture[]::new));
+        }
+
+        private synchronized void started() {
+            if (this.cancelled) {
+                throw new CancellationException("Upload cancelled after another one failed");
+            }
+            this.running.add(Thread.currentThread());
+        }
+
+        // the interrupt flag is cleared under the same lock, so no interrupt leaks into the next task of the thread
+        private synchronized void finished() {
+            this.running.remove(Thread.currentThread());
+            Thread.interrupted();
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.application.video.media.get;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import java.util.Objects;
@@ -11,8 +12,14 @@ public class DefaultGetMediaUseCase extends GetMediaUseCase {
 
     private final MediaResourceGateway mediaResourceGateway;
 
-    public DefaultGetMediaUseCase(final MediaResourceGateway mediaResourceGateway) {
+    private final VideoGateway videoGateway;
+
+    public DefaultGetMediaUseCase(
+            final MediaResourceGateway mediaResourceGateway,
+            final VideoGateway videoGateway
+    ) {
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
     @Override
@@ -21,11 +28,22 @@ public class DefaultGetMediaUseCase extends GetMediaUseCase {
         final var aType = VideoMediaType.of(aCmd.mediaType())
                 .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
 
+        // answered from the checksum persisted with the video, the storage is not touched
+        final var aChecksum = this.videoGateway.findMediaChecksum(anId, aType);
+        if (aChecksum.filter(aCmd::isKnown).isPresent()) {
+            return MediaOutput.notModified(aChecksum.get());
+        }
+
+        final var aDownloadUrl = this.mediaResourceGateway.getDownloadUrl(anId, aType);
+        if (aDownloadUrl.isPresent()) {
+            return MediaOutput.redirect(aDownloadUrl.get());
+        }
+
         final var aResource =
                 this.mediaResourceGateway.getResource(anId, aType)
                         .orElseThrow(() -> notFound(aCmd.videoId(), aCmd.mediaType()));
 
-        return MediaOutput.with(aResource);
+        return MediaOutput.with(aResource, aChecksum.orElseGet(aResource::checksum));
     }
 
     private NotFoundException notFound(final String anId, final String aType) {
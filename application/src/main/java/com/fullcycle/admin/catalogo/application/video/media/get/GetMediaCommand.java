@@ -1,11 +1,26 @@
 package com.fullcycle.admin.catalogo.application.video.media.get;
 
+import java.util.Set;
+
 public record GetMediaCommand(
         String videoId,
-        String mediaType
+        String mediaType,
+        Set<String> knownChecksums
 ) {
 
+    // If-None-Match: *, matches whatever checksum the media currently has
+    public static final String ANY_CHECKSUM = "*";
+
     public static GetMediaCommand with(final String anId, final String aType) {
-        return new GetMediaCommand(anId, aType);
+        return new GetMediaCommand(anId, aType, Set.of());
+    }
+
+    public static GetMediaCommand with(final String anId, final String aType, final Set<String> knownChecksums) {
+        return new GetMediaCommand(anId, aType, knownChecksums);
+    }
+
+    public boolean isKnown(final String aChecksum) {
+        return this.knownChecksums != null
+                && (this.knownChecksums.contains(ANY_CHECKSUM) || this.knownChecksums.contains(aChecksum));
     }
 }
\ No newline at end of file
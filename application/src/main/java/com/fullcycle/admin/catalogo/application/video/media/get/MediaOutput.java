@@ -3,15 +3,44 @@ package com.fullcycle.admin.catalogo.application.video.media.get;
 import com.fullcycle.admin.catalogo.domain.video.Resource;
 
 public record MediaOutput(
-        byte[] content,
+        Resource content,
+        String checksum,
+        long size,
         String contentType,
-        String name
+        String name,
+        String location
 ) {
     public static MediaOutput with(final Resource aResource) {
+        return with(aResource, aResource.checksum());
+    }
+
+    // the checksum persisted with the video, so the ETag is the one conditional requests are matched against
+    public static MediaOutput with(final Resource aResource, final String checksum) {
         return new MediaOutput(
-                aResource.content(),
+                aResource,
+                checksum,
+                aResource.size(),
                 aResource.contentType(),
-                aResource.name()
+                aResource.name(),
+                null
         );
     }
+
+    // the caller already holds this checksum, so the content was never fetched
+    public static MediaOutput notModified(final String checksum) {
+        return new MediaOutput(null, checksum, 0, null, null, null);
+    }
+
+    // the content is downloaded straight from the storage at this location
+    public static MediaOutput redirect(final String location) {
+        return new MediaOutput(null, null, 0, null, null, location);
+    }
+
+    public boolean isModified() {
+        return this.content != null || this.location != null;
+    }
+
+    public boolean isRedirect() {
+        return this.location != null;
+    }
 }
\ No newline at end of file
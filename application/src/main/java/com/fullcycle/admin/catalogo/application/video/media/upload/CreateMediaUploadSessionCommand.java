@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record CreateMediaUploadSessionCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String contentType
+) {
+
+    public static CreateMediaUploadSessionCommand with(
+            final String anId,
+            final VideoMediaType aType,
+            final String aContentType
+    ) {
+        return new CreateMediaUploadSessionCommand(anId, aType, aContentType);
+    }
+}
@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import java.time.Instant;
+import java.util.Map;
+
+public record CreateMediaUploadSessionOutput(
+        String videoId,
+        VideoMediaType mediaType,
+        String uploadId,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+
+    public static CreateMediaUploadSessionOutput from(
+            final String anId,
+            final VideoMediaType aType,
+            final MediaUploadSession aSession
+    ) {
+        return new CreateMediaUploadSessionOutput(
+                anId,
+                aType,
+                aSession.id(),
+                aSession.url(),
+                aSession.method(),
+                aSession.headers(),
+                aSession.expiresAt()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class CreateMediaUploadSessionUseCase
+        extends UseCase<CreateMediaUploadSessionCommand, CreateMediaUploadSessionOutput> {
+}
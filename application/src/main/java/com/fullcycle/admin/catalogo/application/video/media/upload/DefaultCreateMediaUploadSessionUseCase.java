@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import java.util.Objects;
+
+public class DefaultCreateMediaUploadSessionUseCase extends CreateMediaUploadSessionUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCreateMediaUploadSessionUseCase(
+            final MediaResourceGateway mediaResourceGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public CreateMediaUploadSessionOutput execute(final CreateMediaUploadSessionCommand aCmd) {
+        final var anId = VideoID.from(aCmd.videoId());
+        final var aType = aCmd.mediaType();
+
+        if (this.videoGateway.findById(anId).isEmpty()) {
+            throw NotFoundException.with(Video.class, anId);
+        }
+
+        final var aSession = this.mediaResourceGateway.createUploadSession(anId, aType, aCmd.contentType())
+                .orElseThrow(() -> NotificationException.with(
+                        new Error("The storage does not accept direct uploads, send the media file instead")));
+
+        return CreateMediaUploadSessionOutput.from(anId.getValue(), aType, aSession);
+    }
+}
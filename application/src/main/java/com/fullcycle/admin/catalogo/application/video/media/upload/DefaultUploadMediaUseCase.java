@@ -1,6 +1,9 @@
 package com.fullcycle.admin.catalogo.application.video.media.upload;
 
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
@@ -23,23 +26,43 @@ public class DefaultUploadMediaUseCase extends UploadMediaUseCase {
     @Override
     public UploadMediaOutput execute(final UploadMediaCommand aCmd) {
         final var anId = VideoID.from(aCmd.videoId());
-        final var aResource = aCmd.videoResource();
+        final var aType = aCmd.mediaType();
 
         final var aVideo = this.videoGateway.findById(anId)
                 .orElseThrow(() -> notFound(anId));
 
-        switch (aResource.type()) {
-            case VIDEO -> aVideo.updateVideoMedia(mediaResourceGateway.storeAudioVideo(anId, aResource));
-            case TRAILER -> aVideo.updateTrailerMedia(mediaResourceGateway.storeAudioVideo(anId, aResource));
-            case BANNER -> aVideo.updateBannerMedia(mediaResourceGateway.storeImage(anId, aResource));
-            case THUMBNAIL -> aVideo.updateThumbnailMedia(mediaResourceGateway.storeImage(anId, aResource));
-            case THUMBNAIL_HALF -> aVideo.updateThumbnailHalfMedia(mediaResourceGateway.storeImage(anId, aResource));
+        switch (aType) {
+            case VIDEO -> aVideo.updateVideoMedia(storeAudioVideo(anId, aCmd));
+            case TRAILER -> aVideo.updateTrailerMedia(storeAudioVideo(anId, aCmd));
+            case BANNER -> aVideo.updateBannerMedia(storeImage(anId, aCmd));
+            case THUMBNAIL -> aVideo.updateThumbnailMedia(storeImage(anId, aCmd));
+            case THUMBNAIL_HALF -> aVideo.updateThumbnailHalfMedia(storeImage(anId, aCmd));
         }
 
-        return UploadMediaOutput.with(videoGateway.update(aVideo), aResource.type());
+        return UploadMediaOutput.with(videoGateway.update(aVideo), aType);
+    }
+
+    private AudioVideoMedia storeAudioVideo(final VideoID anId, final UploadMediaCommand aCmd) {
+        if (aCmd.isUploaded()) {
+            return this.mediaResourceGateway.completeAudioVideoUpload(anId, aCmd.mediaType(), aCmd.uploadId(), aCmd.name())
+                    .orElseThrow(() -> uploadNotFound(aCmd.uploadId()));
+        }
+        return this.mediaResourceGateway.storeAudioVideo(anId, aCmd.videoResource());
+    }
+
+    private ImageMedia storeImage(final VideoID anId, final UploadMediaCommand aCmd) {
+        if (aCmd.isUploaded()) {
+            return this.mediaResourceGateway.completeImageUpload(anId, aCmd.mediaType(), aCmd.uploadId(), aCmd.name())
+                    .orElseThrow(() -> uploadNotFound(aCmd.uploadId()));
+        }
+        return this.mediaResourceGateway.storeImage(anId, aCmd.videoResource());
     }
 
     private NotFoundException notFound(final VideoID anId) {
         return NotFoundException.with(Video.class, anId);
     }
-}
\ No newline at end of file
+
+    private NotFoundException uploadNotFound(final String anUploadId) {
+        return NotFoundException.with(new Error("Nothing was uploaded for upload session %s".formatted(anUploadId)));
+    }
+}
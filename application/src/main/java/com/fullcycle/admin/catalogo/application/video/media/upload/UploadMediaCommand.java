@@ -1,13 +1,31 @@
 package com.fullcycle.admin.catalogo.application.video.media.upload;
 
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 
 public record UploadMediaCommand(
         String videoId,
-        VideoResource videoResource
+        VideoMediaType mediaType,
+        VideoResource videoResource,
+        String uploadId,
+        String name
 ) {
 
     public static UploadMediaCommand with(final String anId, final VideoResource aResource) {
-        return new UploadMediaCommand(anId, aResource);
+        return new UploadMediaCommand(anId, aResource.type(), aResource, null, null);
     }
-}
\ No newline at end of file
+
+    // the client already sent the bytes to the storage through an upload session
+    public static UploadMediaCommand uploaded(
+            final String anId,
+            final VideoMediaType aType,
+            final String anUploadId,
+            final String aName
+    ) {
+        return new UploadMediaCommand(anId, aType, null, anUploadId, aName);
+    }
+
+    public boolean isUploaded() {
+        return this.uploadId != null;
+    }
+}
@@ -17,20 +17,30 @@ import com.fullcycle.admin.catalogo.domain.video.Resource;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import java.time.Duration;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
 
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -38,7 +48,8 @@ import static org.mockito.Mockito.when;
 
 public class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
+    private static final ExecutorService MEDIA_EXECUTOR = Executors.newFixedThreadPool(5);
+
     private DefaultCreateVideoUseCase useCase;
 
     @Mock
@@ -61,6 +72,23 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
     }
 
+    @BeforeEach
+    public void setUp() {
+        this.useCase = new DefaultCreateVideoUseCase(
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                videoGateway,
+                MEDIA_EXECUTOR
+        );
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        MEDIA_EXECUTOR.shutdownNow();
+    }
+
     @Test
     public void givenAValidCommand_whenCallsCreateVideo_shouldReturnVideoId() {
         // given
@@ -1009,6 +1037,100 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway).clearResources(any());
     }
 
+    @Test
+    public void givenAValidCommandWithAllMedias_whenCallsCreateVideo_shouldStoreThemConcurrently() {
+        // given
+        final var allStarted = new CountDownLatch(5);
+        final var aCommand = commandWithAllMedias();
+
+        final Answer<Object> awaitOthers = t -> {
+            allStarted.countDown();
+            if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Media were stored one after another");
+            }
+            final var resource = t.getArgument(1, VideoResource.class).resource();
+            return "storeImage".equals(t.getMethod().getName())
+                    ? ImageMedia.with(resource.checksum(), resource.name(), "/raw/".concat(resource.name()))
+                    : AudioVideoMedia.with(resource.checksum(), resource.name(), "/raw/".concat(resource.name()));
+        };
+
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(awaitOthers);
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(awaitOthers);
+        when(videoGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualResult = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertNotNull(actualResult.id());
+        Assertions.assertEquals(0, allStarted.getCount());
+
+        verify(mediaResourceGateway, times(2)).storeAudioVideo(any(), any());
+        verify(mediaResourceGateway, times(3)).storeImage(any(), any());
+        verify(mediaResourceGateway, times(0)).clearResources(any());
+    }
+
+    @Test
+    public void givenOneMediaFails_whenCallsCreateVideo_shouldCancelTheOthersBeforeClearingResources() {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+        final var running = new AtomicInteger();
+        final var runningOnClear = new AtomicInteger(-1);
+        final var aCommand = commandWithAllMedias();
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenThrow(new RuntimeException("Storage unavailable"));
+
+        // images may be cancelled before they ever start
+        lenient().when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
+            running.incrementAndGet();
+            try {
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+                throw new IllegalStateException("Upload was not cancelled");
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        doAnswer(t -> {
+            runningOnClear.set(running.get());
+            return null;
+        }).when(mediaResourceGateway).clearResources(any());
+
+        // when
+        final var actualResult = Assertions.assertTimeoutPreemptively(
+                Duration.ofSeconds(5),
+                () -> Assertions.assertThrows(InternalErrorException.class, () -> useCase.execute(aCommand))
+        );
+
+        // then
+        Assertions.assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
+        Assertions.assertEquals("Storage unavailable", actualResult.getCause().getMessage());
+        Assertions.assertEquals(0, runningOnClear.get());
+
+        verify(mediaResourceGateway).clearResources(any());
+        verify(videoGateway, times(0)).create(any());
+    }
+
+    private CreateVideoCommand commandWithAllMedias() {
+        return CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VideoMediaType.VIDEO),
+                Fixture.Videos.resource(VideoMediaType.TRAILER),
+                Fixture.Videos.resource(VideoMediaType.BANNER),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+    }
+
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
             final var videoResource = t.getArgument(1, VideoResource.class);
@@ -4,15 +4,21 @@ import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GetMediaUseCaseTest extends UseCaseTest {
@@ -23,9 +29,12 @@ public class GetMediaUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Mock
+    private VideoGateway videoGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(mediaResourceGateway);
+        return List.of(mediaResourceGateway, videoGateway);
     }
 
     @Test
@@ -45,10 +54,123 @@ public class GetMediaUseCaseTest extends UseCaseTest {
 
         // then
         Assertions.assertEquals(expectedResource.name(), actualResult.name());
-        Assertions.assertEquals(expectedResource.content(), actualResult.content());
+        Assertions.assertEquals(expectedResource.checksum(), actualResult.checksum());
+        Assertions.assertEquals(expectedResource.size(), actualResult.size());
+        Assertions.assertArrayEquals(expectedResource.content(), actualResult.content().content());
         Assertions.assertEquals(expectedResource.contentType(), actualResult.contentType());
     }
 
+    @Test
+    public void givenKnownChecksumOfThePersistedMedia_whenCallsGetMedia_shouldReturnNotModifiedWithoutReadingStorage() {
+        // given
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedMedia = Fixture.Videos.image(expectedType);
+        final var expectedId = VideoID.unique();
+
+        when(videoGateway.findMediaChecksum(expectedId, expectedType))
+                .thenReturn(Optional.of(expectedMedia.checksum()));
+
+        final var aCmd = GetMediaCommand.with(expectedId.getValue(), expectedType.name(), Set.of(expectedMedia.checksum()));
+
+        // when
+        final var actualResult = this.useCase.execute(aCmd);
+
+        // then
+        Assertions.assertFalse(actualResult.isModified());
+        Assertions.assertEquals(expectedMedia.checksum(), actualResult.checksum());
+
+        verify(mediaResourceGateway, never()).getResource(any(), any());
+        verify(videoGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenAnyChecksum_whenCallsGetMediaOfAPersistedMedia_shouldReturnNotModified() {
+        // given
+        final var expectedType = VideoMediaType.THUMBNAIL;
+        final var expectedChecksum = Fixture.Videos.image(expectedType).checksum();
+        final var expectedId = VideoID.unique();
+
+        when(videoGateway.findMediaChecksum(expectedId, expectedType))
+                .thenReturn(Optional.of(expectedChecksum));
+
+        final var aCmd = GetMediaCommand.with(expectedId.getValue(), expectedType.name(), Set.of(GetMediaCommand.ANY_CHECKSUM));
+
+        // when
+        final var actualResult = this.useCase.execute(aCmd);
+
+        // then
+        Assertions.assertFalse(actualResult.isModified());
+        Assertions.assertEquals(expectedChecksum, actualResult.checksum());
+
+        verify(mediaResourceGateway, never()).getResource(any(), any());
+    }
+
+    @Test
+    public void givenAnyChecksum_whenCallsGetMediaOfAMissingMedia_shouldReturnNotFoundException() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+
+        when(mediaResourceGateway.getResource(expectedId, expectedType))
+                .thenReturn(Optional.empty());
+
+        final var aCmd = GetMediaCommand.with(expectedId.getValue(), expectedType.name(), Set.of(GetMediaCommand.ANY_CHECKSUM));
+
+        // when
+        Assertions.assertThrows(NotFoundException.class, () -> {
+            this.useCase.execute(aCmd);
+        });
+    }
+
+    @Test
+    public void givenStaleChecksum_whenCallsGetMedia_shouldReturnResourceTaggedWithThePersistedChecksum() {
+        // given
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedChecksum = Fixture.Videos.audioVideo(expectedType).checksum();
+        final var expectedId = VideoID.unique();
+
+        when(videoGateway.findMediaChecksum(expectedId, expectedType))
+                .thenReturn(Optional.of(expectedChecksum));
+
+        when(mediaResourceGateway.getResource(expectedId, expectedType))
+                .thenReturn(Optional.of(expectedResource));
+
+        final var aCmd = GetMediaCommand.with(expectedId.getValue(), expectedType.name(), Set.of("stale"));
+
+        // when
+        final var actualResult = this.useCase.execute(aCmd);
+
+        // then
+        Assertions.assertTrue(actualResult.isModified());
+        Assertions.assertEquals(expectedChecksum, actualResult.checksum());
+        Assertions.assertArrayEquals(expectedResource.content(), actualResult.content().content());
+    }
+
+    @Test
+    public void givenStorageThatSignsUrls_whenCallsGetMedia_shouldRedirectWithoutReadingTheContent() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedLocation = "https://storage.example.com/blobs/abc?X-Goog-Signature=123";
+
+        when(mediaResourceGateway.getDownloadUrl(expectedId, expectedType))
+                .thenReturn(Optional.of(expectedLocation));
+
+        final var aCmd = GetMediaCommand.with(expectedId.getValue(), expectedType.name());
+
+        // when
+        final var actualResult = this.useCase.execute(aCmd);
+
+        // then
+        Assertions.assertTrue(actualResult.isModified());
+        Assertions.assertTrue(actualResult.isRedirect());
+        Assertions.assertEquals(expectedLocation, actualResult.location());
+        Assertions.assertNull(actualResult.content());
+
+        verify(mediaResourceGateway, never()).getResource(any(), any());
+    }
+
     @Test
     public void givenVideoIdAndType_whenIsNotFound_shouldReturnNotFoundException() {
         // given
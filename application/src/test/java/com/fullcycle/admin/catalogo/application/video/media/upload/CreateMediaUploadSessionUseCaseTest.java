@@ -0,0 +1,130 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CreateMediaUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateMediaUploadSessionUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway, videoGateway);
+    }
+
+    @Test
+    public void givenValidCmd_whenCallsCreateUploadSession_shouldReturnTheSignedSession() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedContentType = "video/mp4";
+        final var expectedSession = MediaUploadSession.with(
+                "0123456789abcdef0123456789abcdef",
+                "https://storage.example.com/blobs/upload?X-Goog-Signature=123",
+                "POST",
+                Map.of("x-goog-resumable", "start"),
+                Instant.now()
+        );
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaResourceGateway.createUploadSession(any(), any(), any()))
+                .thenReturn(Optional.of(expectedSession));
+
+        final var aCmd = CreateMediaUploadSessionCommand.with(expectedId.getValue(), expectedType, expectedContentType);
+
+        // when
+        final var actualOutput = useCase.execute(aCmd);
+
+        // then
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+        Assertions.assertEquals(expectedType, actualOutput.mediaType());
+        Assertions.assertEquals(expectedSession.id(), actualOutput.uploadId());
+        Assertions.assertEquals(expectedSession.url(), actualOutput.uploadUrl());
+        Assertions.assertEquals(expectedSession.method(), actualOutput.method());
+        Assertions.assertEquals(expectedSession.headers(), actualOutput.headers());
+        Assertions.assertEquals(expectedSession.expiresAt(), actualOutput.expiresAt());
+
+        verify(mediaResourceGateway, times(1))
+                .createUploadSession(eq(expectedId), eq(expectedType), eq(expectedContentType));
+    }
+
+    @Test
+    public void givenStorageWithoutDirectUploads_whenCallsCreateUploadSession_shouldReturnDomainException() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedErrorMessage = "The storage does not accept direct uploads, send the media file instead";
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaResourceGateway.createUploadSession(any(), any(), any()))
+                .thenReturn(Optional.empty());
+
+        final var aCmd = CreateMediaUploadSessionCommand.with(aVideo.getId().getValue(), VideoMediaType.VIDEO, "video/mp4");
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(aCmd)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenUnknownVideo_whenCallsCreateUploadSession_shouldReturnNotFound() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        final var aCmd = CreateMediaUploadSessionCommand.with(expectedId.getValue(), VideoMediaType.VIDEO, "video/mp4");
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(aCmd)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(mediaResourceGateway, never()).createUploadSession(any(), any(), any());
+    }
+}
@@ -20,6 +20,7 @@ import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -245,6 +246,73 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
         ));
     }
 
+    @Test
+    public void givenCompletedUploadSession_whenIsValid_shouldRecordTheUploadedMediaWithoutStoringIt() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUploadId = "0123456789abcdef0123456789abcdef";
+        final var expectedName = "master.mp4";
+        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaResourceGateway.completeAudioVideoUpload(any(), any(), any(), any()))
+                .thenReturn(Optional.of(expectedMedia));
+
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var aCmd = UploadMediaCommand.uploaded(expectedId.getValue(), expectedType, expectedUploadId, expectedName);
+
+        // when
+        final var actualOutput = useCase.execute(aCmd);
+
+        // then
+        Assertions.assertEquals(expectedType, actualOutput.mediaType());
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+
+        verify(mediaResourceGateway, times(1))
+                .completeAudioVideoUpload(eq(expectedId), eq(expectedType), eq(expectedUploadId), eq(expectedName));
+        verify(mediaResourceGateway, never()).storeAudioVideo(any(), any());
+
+        verify(videoGateway, times(1)).update(argThat(actualVideo ->
+                Objects.equals(expectedMedia, actualVideo.getVideo().get())
+        ));
+    }
+
+    @Test
+    public void givenUploadSessionWithoutContent_whenCompletes_shouldReturnNotFound() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedUploadId = "0123456789abcdef0123456789abcdef";
+
+        final var expectedErrorMessage = "Nothing was uploaded for upload session %s".formatted(expectedUploadId);
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaResourceGateway.completeImageUpload(any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
+
+        final var aCmd = UploadMediaCommand.uploaded(expectedId.getValue(), expectedType, expectedUploadId, "banner.png");
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(aCmd)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(videoGateway, never()).update(any());
+    }
+
     @Test
     public void givenCmdToUpload_whenVideoIsInvalid_shouldReturnNotFound() {
         // given
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+// the cost of handing out one id with each generator. four threads so the time-ordered counter is contended
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class IdUtilsBenchmark {
+
+    @Benchmark
+    public String randomUuid() {
+        return IdUtils.randomUuid();
+    }
+
+    @Benchmark
+    public String timeOrderedUuid() {
+        return IdUtils.timeOrderedUuid();
+    }
+}
@@ -3,11 +3,18 @@ package com.fullcycle.admin.catalogo.domain.pagination;
 import java.util.*;
 import java.util.function.*;
 
-public record Pagination<T>(int currentPage, int perPage, long total, List<T> items) {
+// total is UNKNOWN_TOTAL when the query asked to skip counting, hasNext is known either way
+public record Pagination<T>(int currentPage, int perPage, long total, List<T> items, String nextCursor, boolean hasNext) {
+
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, (long) (currentPage + 1) * perPage < total);
+    }
 
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream().map(mapper).toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, nextCursor(), hasNext());
     }
 }
@@ -1,10 +1,33 @@
 package com.fullcycle.admin.catalogo.domain.pagination;
 
+// cursor is the opaque next_cursor of a previous page, when present it takes the place of page;
+// without withTotal the total is not counted and only hasNext tells whether more items follow
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        boolean withTotal
 ) {
-}
\ No newline at end of file
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null, true);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, true);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+}
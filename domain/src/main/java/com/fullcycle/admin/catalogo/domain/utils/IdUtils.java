@@ -1,15 +1,64 @@
 package com.fullcycle.admin.catalogo.domain.utils;
 
+import java.security.SecureRandom;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class IdUtils {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // unix millis in the high bits and a 12 bit counter in the low ones, the last time-ordered id handed out
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+    private static final int COUNTER_BITS = 12;
+
+    private static volatile Generator generator = Generator.RANDOM;
+
     private IdUtils() {
 
     }
 
     public static String uuid() {
+        return generator == Generator.TIME_ORDERED ? timeOrderedUuid() : randomUuid();
+    }
+
+    public static Generator generator() {
+        return generator;
+    }
+
+    public static void use(final Generator aGenerator) {
+        generator = Objects.requireNonNull(aGenerator);
+    }
+
+    public static String randomUuid() {
         return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+    }
+
+    // UUIDv7: 48 bits of unix millis, the counter as rand_a and 62 random bits, so ids sort by creation time.
+    // the counter starts at a random value below half its range every millisecond and carries into the timestamp
+    // when a millisecond runs out, ids of one node never go backwards and the random bits keep nodes apart
+    public static String timeOrderedUuid() {
+        final var timestamp = nextTimestamp();
+        final var msb = (timestamp >>> COUNTER_BITS) << 16 | 0x7000L | (timestamp & 0xFFFL);
+        final var lsb = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString().replace("-", "");
+    }
+
+    private static long nextTimestamp() {
+        final var now = System.currentTimeMillis() << COUNTER_BITS;
+        while (true) {
+            final var last = LAST_TIMESTAMP.get();
+            final var next = now > last ? now | RANDOM.nextInt(1 << (COUNTER_BITS - 1)) : last + 1;
+            if (LAST_TIMESTAMP.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
 
+    public enum Generator {
+        RANDOM,
+        TIME_ORDERED
     }
 }
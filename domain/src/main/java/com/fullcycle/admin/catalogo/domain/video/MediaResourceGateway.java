@@ -8,8 +8,19 @@ public interface MediaResourceGateway {
 
     ImageMedia storeImage(VideoID andId, VideoResource aResource);
 
+    // empty when the storage cannot take uploads from the client directly
+    Optional<MediaUploadSession> createUploadSession(VideoID anId, VideoMediaType type, String contentType);
+
+    // empty when nothing was uploaded for the session, the uploaded bytes are never read
+    Optional<AudioVideoMedia> completeAudioVideoUpload(VideoID anId, VideoMediaType type, String anUploadId, String name);
+
+    Optional<ImageMedia> completeImageUpload(VideoID anId, VideoMediaType type, String anUploadId, String name);
+
     Optional<Resource> getResource(VideoID anId, VideoMediaType type);
 
+    // empty when the media has to be served through getResource instead
+    Optional<String> getDownloadUrl(VideoID anId, VideoMediaType type);
+
     void clearResources(VideoID anId);
 
 }
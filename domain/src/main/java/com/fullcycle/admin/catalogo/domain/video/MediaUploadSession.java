@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.time.Instant;
+import java.util.Map;
+
+// the client sends the media bytes to the url itself, with the given method and headers, before the session expires
+public record MediaUploadSession(
+        String id,
+        String url,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+
+    public static MediaUploadSession with(
+            final String id,
+            final String url,
+            final String method,
+            final Map<String, String> headers,
+            final Instant expiresAt
+    ) {
+        return new MediaUploadSession(id, url, method, Map.copyOf(headers), expiresAt);
+    }
+}
@@ -1,32 +1,151 @@
 package com.fullcycle.admin.catalogo.domain.video;
 
 import com.fullcycle.admin.catalogo.domain.ValueObject;
+import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Objects;
 
 public class Resource extends ValueObject {
 
     private final byte[] content;
+    private final Source source;
+    private final long size;
     private final String checksum;
     private final String contentType;
     private final String name;
 
-    private Resource(final byte[] content, final String checksum, final String contentType, final String name) {
-        this.content = Objects.requireNonNull(content);
-        this.checksum = Objects.requireNonNull(checksum);
+    private Resource(
+            final byte[] content,
+            final Source source,
+            final long size,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        this.content = content;
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
+        this.checksum = checksum;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final byte[] content, final String checksum, final String contentType, final String name) {
-        return new Resource(content, checksum, contentType, name);
+        Objects.requireNonNull(content);
+        Objects.requireNonNull(checksum);
+        return new Resource(content, new BytesSource(content), content.length, checksum, contentType, name);
+    }
+
+    public static Resource with(
+            final Source source,
+            final long size,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(null, source, size, Objects.requireNonNull(checksum), contentType, name);
+    }
+
+    // the checksum is left to be computed by whoever consumes the stream
+    public static Resource with(final Source source, final long size, final String contentType, final String name) {
+        return new Resource(null, source, size, null, contentType, name);
     }
 
     public String checksum() {
         return checksum;
     }
 
+    public boolean hasChecksum() {
+        return this.checksum != null;
+    }
+
+    // streamed resources are read fully on every call, prefer openStream() to copy them elsewhere
     public byte[] content() {
-        return content;
+        if (this.content != null) {
+            return this.content;
+        }
+
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw InternalErrorException.with("Failed to read content of resource %s".formatted(name), e);
+        }
+    }
+
+    public InputStream openStream() {
+        try {
+            return this.source.open();
+        } catch (IOException e) {
+            throw InternalErrorException.with("Failed to open content of resource %s".formatted(name), e);
+        }
+    }
+
+    public InputStream openStream(final long offset, final long length) {
+        checkBounds(offset, length);
+
+        try {
+            return this.source.open(offset, length);
+        } catch (IOException e) {
+            throw InternalErrorException.with("Failed to open content of resource %s".formatted(name), e);
+        }
+    }
+
+    public long transferTo(final long offset, final long length, final WritableByteChannel target) {
+        checkBounds(offset, length);
+
+        try {
+            return this.source.transferTo(offset, length, target);
+        } catch (IOException e) {
+            throw InternalErrorException.with("Failed to transfer content of resource %s".formatted(name), e);
+        }
+    }
+
+    public Resource slice(final long offset, final long length) {
+        checkBounds(offset, length);
+
+        final var parent = this.source;
+        final Source slice = new Source() {
+            @Override
+            public InputStream open() throws IOException {
+                return parent.open(offset, length);
+            }
+
+            @Override
+            public InputStream open(final long sliceOffset, final long sliceLength) throws IOException {
+                return parent.open(offset + sliceOffset, sliceLength);
+            }
+
+            @Override
+            public long transferTo(final long sliceOffset, final long sliceLength, final WritableByteChannel target)
+                    throws IOException {
+                return parent.transferTo(offset + sliceOffset, sliceLength, target);
+            }
+        };
+
+        return new Resource(null, slice, length, null, contentType, name);
+    }
+
+    public Source source() {
+        return source;
+    }
+
+    private void checkBounds(final long offset, final long length) {
+        if (offset < 0 || length < 0 || offset + length > this.size) {
+            throw new IllegalArgumentException("Range %d+%d is out of resource bounds".formatted(offset, length));
+        }
+    }
+
+    public boolean isStreamed() {
+        return this.content == null;
+    }
+
+    public long size() {
+        return size;
     }
 
     public String contentType() {
@@ -37,4 +156,88 @@ public class Resource extends ValueObject {
         return name;
     }
 
-}
\ No newline at end of file
+    @FunctionalInterface
+    public interface Source {
+
+        InputStream open() throws IOException;
+
+        // storage backends that can seek should override this instead of skipping through the stream
+        default InputStream open(final long offset, final long length) throws IOException {
+            final var in = open();
+            in.skipNBytes(offset);
+            return new LimitedInputStream(in, length);
+        }
+
+        // file backed sources override this to move bytes without staging them on the heap
+        default long transferTo(final long offset, final long length, final WritableByteChannel target)
+                throws IOException {
+            try (final var in = open(offset, length)) {
+                return in.transferTo(Channels.newOutputStream(target));
+            }
+        }
+    }
+
+    private record BytesSource(byte[] content) implements Source {
+
+        @Override
+        public InputStream open() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            return new ByteArrayInputStream(content, (int) offset, (int) length);
+        }
+    }
+
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private LimitedInputStream(final InputStream in, final long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (this.remaining <= 0) {
+                return -1;
+            }
+            final var b = super.read();
+            if (b != -1) {
+                this.remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (this.remaining <= 0) {
+                return -1;
+            }
+            final var n = super.read(b, off, (int) Math.min(len, this.remaining));
+            if (n != -1) {
+                this.remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final var skipped = super.skip(Math.min(n, this.remaining));
+            this.remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), this.remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -11,6 +11,9 @@ public interface VideoGateway {
 
     Optional<Video> findById(VideoID anId);
 
+    // only the checksum of one media, without loading the video
+    Optional<String> findMediaChecksum(VideoID anId, VideoMediaType aType);
+
     Video update(Video aVideo);
 
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
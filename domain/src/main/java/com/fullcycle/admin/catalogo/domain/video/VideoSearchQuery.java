@@ -13,6 +13,39 @@ public record VideoSearchQuery(
         String direction,
         Set<CastMemberID> castMembers,
         Set<CategoryID> categories,
-        Set<GenreID> genres
+        Set<GenreID> genres,
+        String cursor,
+        boolean withTotal
 ) {
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, null, true);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, cursor, true);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
 }
\ No newline at end of file
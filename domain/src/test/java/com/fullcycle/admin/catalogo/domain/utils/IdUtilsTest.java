@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IdUtilsTest extends UnitTest {
+
+    @AfterEach
+    public void tearDown() {
+        IdUtils.use(IdUtils.Generator.RANDOM);
+    }
+
+    @Test
+    public void givenTimeOrderedGenerator_whenCallsUuid_shouldReturnAVersion7UuidOf32HexDigits() {
+        // given
+        IdUtils.use(IdUtils.Generator.TIME_ORDERED);
+        final var before = System.currentTimeMillis();
+
+        // when
+        final var actualId = IdUtils.uuid();
+
+        // then
+        Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"), actualId);
+
+        final var actualUuid = UUID.fromString(actualId.replaceFirst(
+                "(\\p{XDigit}{8})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}+)", "$1-$2-$3-$4-$5"
+        ));
+        Assertions.assertEquals(7, actualUuid.version());
+        Assertions.assertEquals(2, actualUuid.variant());
+        Assertions.assertTrue(actualUuid.getMostSignificantBits() >>> 16 >= before);
+    }
+
+    @Test
+    public void givenManyIdsInTheSameMillisecond_whenCallsTimeOrderedUuid_shouldReturnStrictlyIncreasingIds() {
+        // given
+        final var expectedCount = 100_000;
+        final var actualIds = new ArrayList<String>(expectedCount);
+
+        // when
+        for (int i = 0; i < expectedCount; i++) {
+            actualIds.add(IdUtils.timeOrderedUuid());
+        }
+
+        // then
+        for (int i = 1; i < expectedCount; i++) {
+            Assertions.assertTrue(actualIds.get(i - 1).compareTo(actualIds.get(i)) < 0, actualIds.get(i));
+        }
+        Assertions.assertEquals(expectedCount, new HashSet<>(actualIds).size());
+    }
+
+    @Test
+    public void givenDefaultGenerator_whenCallsUuid_shouldReturnARandomVersion4Uuid() {
+        // when
+        final var actualId = IdUtils.uuid();
+
+        // then
+        Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"), actualId);
+        Assertions.assertEquals('4', actualId.charAt(12));
+    }
+}
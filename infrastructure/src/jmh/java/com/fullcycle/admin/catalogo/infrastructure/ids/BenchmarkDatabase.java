@@ -0,0 +1,75 @@
+package com.fullcycle.admin.catalogo.infrastructure.ids;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import org.testcontainers.containers.MySQLContainer;
+
+// a throwaway MySQL per benchmark run, the same image and credentials the e2e tests use
+final class BenchmarkDatabase implements AutoCloseable {
+
+    private final MySQLContainer<?> container;
+
+    private BenchmarkDatabase(final MySQLContainer<?> container) {
+        this.container = container;
+    }
+
+    static BenchmarkDatabase start() {
+        final var container = new MySQLContainer<>("mysql:latest")
+                .withPassword("123456")
+                .withUsername("root")
+                .withDatabaseName("adm_videos")
+                .withUrlParam("rewriteBatchedStatements", "true");
+        container.start();
+        return new BenchmarkDatabase(container);
+    }
+
+    String url() {
+        return this.container.getJdbcUrl();
+    }
+
+    String username() {
+        return this.container.getUsername();
+    }
+
+    String password() {
+        return this.container.getPassword();
+    }
+
+    Connection connect() throws SQLException {
+        return DriverManager.getConnection(url(), username(), password());
+    }
+
+    void execute(final String sql) throws SQLException {
+        try (final var connection = connect();
+             final var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // data and secondary indexes as InnoDB reports them, statistics are read fresh instead of from the cache
+    long storedBytes(final String table) throws SQLException {
+        try (final var connection = connect()) {
+            try (final var statement = connection.createStatement()) {
+                statement.execute("SET SESSION information_schema_stats_expiry = 0");
+                statement.execute("ANALYZE TABLE " + table);
+            }
+            try (final var statement = connection.prepareStatement("""
+                    SELECT data_length + index_length
+                      FROM information_schema.tables
+                     WHERE table_schema = DATABASE() AND table_name = ?
+                    """)) {
+                statement.setString(1, table);
+                try (final var rs = statement.executeQuery()) {
+                    rs.next();
+                    return rs.getLong(1);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        this.container.stop();
+    }
+}
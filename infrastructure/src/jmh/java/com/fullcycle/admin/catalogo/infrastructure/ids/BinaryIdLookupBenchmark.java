@@ -0,0 +1,116 @@
+package com.fullcycle.admin.catalogo.infrastructure.ids;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// primary key lookups of the same ids stored as CHAR(32) hex and as the BINARY(16) V7 moved every id column to.
+// both tables hold SEEDED_ROWS rows and a secondary index on a second id column; the bytes each one takes are
+// printed once the run is over, they depend on the data and not on the machine
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BinaryIdLookupBenchmark {
+
+    private static final int SEEDED_ROWS = 200_000;
+
+    private static final int SAMPLED_IDS = 10_000;
+
+    private BenchmarkDatabase database;
+
+    private List<String> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.database = BenchmarkDatabase.start();
+        this.database.execute("CREATE TABLE hex_ids (id CHAR(32) NOT NULL PRIMARY KEY, ref CHAR(32) NOT NULL, KEY (ref))");
+        this.database.execute("CREATE TABLE binary_ids (id BINARY(16) NOT NULL PRIMARY KEY, ref BINARY(16) NOT NULL, KEY (ref))");
+
+        try (final var connection = this.database.connect();
+             final var statement = connection.createStatement()) {
+            statement.execute("SET SESSION cte_max_recursion_depth = " + SEEDED_ROWS);
+            statement.execute("""
+                    INSERT INTO hex_ids (id, ref)
+                    WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                    SELECT REPLACE(UUID(), '-', ''), REPLACE(UUID(), '-', '') FROM seq
+                    """.formatted(SEEDED_ROWS));
+            statement.execute("INSERT INTO binary_ids (id, ref) SELECT UNHEX(id), UNHEX(ref) FROM hex_ids");
+        }
+
+        this.ids = new ArrayList<>(SAMPLED_IDS);
+        try (final var connection = this.database.connect();
+             final var statement = connection.prepareStatement("SELECT id FROM hex_ids ORDER BY RAND() LIMIT " + SAMPLED_IDS);
+             final var rs = statement.executeQuery()) {
+            while (rs.next()) {
+                this.ids.add(rs.getString(1));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try {
+            System.out.printf(
+                    "%n%d rows: CHAR(32) ids take %d bytes, BINARY(16) ids take %d bytes%n",
+                    SEEDED_ROWS,
+                    this.database.storedBytes("hex_ids"),
+                    this.database.storedBytes("binary_ids")
+            );
+        } finally {
+            this.database.close();
+        }
+    }
+
+    @Benchmark
+    public boolean hexId(final Lookups lookups) throws SQLException {
+        return lookups.find(lookups.hex);
+    }
+
+    @Benchmark
+    public boolean binaryId(final Lookups lookups) throws SQLException {
+        return lookups.find(lookups.binary);
+    }
+
+    // one connection per thread, every call looks up the next sampled id, so both tables answer the same keys
+    @State(Scope.Thread)
+    public static class Lookups {
+
+        private List<String> ids;
+        private Connection connection;
+        private PreparedStatement hex;
+        private PreparedStatement binary;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(final BinaryIdLookupBenchmark benchmark) throws SQLException {
+            this.ids = benchmark.ids;
+            this.connection = benchmark.database.connect();
+            this.hex = this.connection.prepareStatement("SELECT ref FROM hex_ids WHERE id = ?");
+            this.binary = this.connection.prepareStatement("SELECT ref FROM binary_ids WHERE id = UNHEX(?)");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            this.connection.close();
+        }
+
+        private boolean find(final PreparedStatement statement) throws SQLException {
+            statement.setString(1, this.ids.get(this.next++ % this.ids.size()));
+            try (final var rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalogo.infrastructure.ids;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// rows per second going into the real categories table, migrated like production so its id is BINARY(16).
+// the table keeps growing through the whole trial: random ids land all over the primary key and split pages
+// once it outgrows the buffer pool, time-ordered ids keep appending to its right edge
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdIngestBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    public IdUtils.Generator generator;
+
+    private BenchmarkDatabase database;
+
+    private Connection connection;
+
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.database = BenchmarkDatabase.start();
+        Flyway.configure()
+                .dataSource(this.database.url(), this.database.username(), this.database.password())
+                .locations("classpath:db/migration", "classpath:db/migration-mysql")
+                .load()
+                .migrate();
+
+        this.connection = this.database.connect();
+        this.connection.setAutoCommit(false);
+        this.insert = this.connection.prepareStatement("""
+                INSERT INTO categories (id, name, description, active, created_at, updated_at)
+                VALUES (?, ?, ?, TRUE, ?, ?)
+                """);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try {
+            System.out.printf(
+                    "%n%s ids: categories takes %d bytes%n",
+                    this.generator,
+                    this.database.storedBytes("categories")
+            );
+            this.connection.close();
+        } finally {
+            this.database.close();
+        }
+    }
+
+    // one committed batch per call, the score is in rows
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        final var now = Timestamp.from(Instant.now());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final var id = this.generator == IdUtils.Generator.TIME_ORDERED
+                    ? IdUtils.timeOrderedUuid()
+                    : IdUtils.randomUuid();
+            this.insert.setBytes(1, BinaryIdType.bytesOf(id));
+            this.insert.setString(2, "Category " + id);
+            this.insert.setString(3, "Ingested by the benchmark");
+            this.insert.setTimestamp(4, now);
+            this.insert.setTimestamp(5, now);
+            this.insert.addBatch();
+        }
+        final var inserted = this.insert.executeBatch();
+        this.connection.commit();
+        return inserted;
+    }
+}
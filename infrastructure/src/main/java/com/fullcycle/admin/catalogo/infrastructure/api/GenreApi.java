@@ -46,7 +46,9 @@ public interface GenreApi {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction);
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "with_total", required = false, defaultValue = "true") final boolean withTotal);
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a genre by it's identifier")
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CompleteUploadSessionRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateUploadSessionRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
@@ -10,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.Set;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,10 +22,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequestMapping(value = "videos")
 @Tag(name = "Video")
@@ -43,7 +48,9 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "with_total", required = false, defaultValue = "true") boolean withTotal
     );
 
     @PostMapping(
@@ -125,12 +132,18 @@ public interface VideoAPI {
     @Operation(summary = "Get a video media by it's type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Requested range of the media retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Media did not change since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<StreamingResponseBody> getMediaByType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     );
 
     @PostMapping(value = "{id}/medias/{type}")
@@ -145,4 +158,40 @@ public interface VideoAPI {
             @PathVariable(name = "type") String type,
             @RequestParam(name = "media_file") MultipartFile media
     );
-}
\ No newline at end of file
+
+    @PostMapping(
+            value = "{id}/medias/{type}/upload-sessions",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Open a session to upload a video media straight to the storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "The storage does not accept direct uploads"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> createUploadSession(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateUploadSessionRequest payload
+    );
+
+    @PutMapping(
+            value = "{id}/medias/{type}/upload-sessions/{uploadId}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Attach the media uploaded through a session to the video")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or uploaded media was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> completeUploadSession(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @RequestBody CompleteUploadSessionRequest payload
+    );
+}
@@ -59,9 +59,12 @@ public class CastMemberController implements CastMemberAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final boolean withTotal
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, cursor, withTotal);
+        return this.listCastMembersUseCase.execute(aQuery)
                 .map(CastMemberPresenter::present);
     }
 
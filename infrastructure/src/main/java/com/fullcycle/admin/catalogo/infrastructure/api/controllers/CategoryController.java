@@ -70,8 +70,10 @@ public class CategoryController implements CategoryAPI {
                                                            final int page,
                                                            final int perPage,
                                                            final String sort,
-                                                           final String direction) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+                                                           final String direction,
+                                                           final String cursor,
+                                                           final boolean withTotal) {
+        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, withTotal))
                 .map(CategoryApiPresenter::present);
     }
 
@@ -66,8 +66,10 @@ public class GenreController implements GenreApi {
             final int page,
             final int perPage,
             final String sort,
-            final String direction) {
-        return listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+            final String direction,
+            final String cursor,
+            final boolean withTotal) {
+        return listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, withTotal))
                 .map(GenreApiPresenter::present);
     }
 
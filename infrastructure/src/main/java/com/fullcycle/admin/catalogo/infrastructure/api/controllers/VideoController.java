@@ -5,6 +5,9 @@ import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadSessionUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
@@ -22,20 +25,28 @@ import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.VideoAPI;
-import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CompleteUploadSessionRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateUploadSessionRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
@@ -57,6 +68,8 @@ public class VideoController implements VideoAPI {
 
     private final UploadMediaUseCase uploadMediaUseCase;
 
+    private final CreateMediaUploadSessionUseCase createMediaUploadSessionUseCase;
+
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
             final GetVideoByIdUseCase getVideoByIdUseCase,
@@ -64,7 +77,8 @@ public class VideoController implements VideoAPI {
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final UploadMediaUseCase uploadMediaUseCase,
+            final CreateMediaUploadSessionUseCase createMediaUploadSessionUseCase
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
@@ -73,6 +87,7 @@ public class VideoController implements VideoAPI {
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.createMediaUploadSessionUseCase = Objects.requireNonNull(createMediaUploadSessionUseCase);
     }
 
     @Override
@@ -84,14 +99,17 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String cursor,
+            final boolean withTotal
     ) {
         final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
         final var categoriesIDs = mapTo(categories, CategoryID::from);
         final var genresIDs = mapTo(genres, GenreID::from);
 
-        final var aQuery =
-                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+        final var aQuery = new VideoSearchQuery(
+                page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs, cursor, withTotal
+        );
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
     }
@@ -191,22 +209,58 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
+    public ResponseEntity<StreamingResponseBody> getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange,
+            final String ifNoneMatch
+    ) {
         final var aMedia =
-                this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+                this.getMediaUseCase.execute(GetMediaCommand.with(id, type, checksumsOf(ifNoneMatch)));
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+        if (aMedia.isRedirect()) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(aMedia.location()))
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        final var eTag = eTagOf(aMedia);
+
+        if (!aMedia.isModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .build();
+        }
+
+        final var size = aMedia.size();
+        final var aRange = requestedRange(range, ifRange, eTag);
+
+        if (aRange == null) {
+            return mediaResponse(HttpStatus.OK, aMedia, eTag)
+                    .contentLength(size)
+                    .body(out -> aMedia.content().transferTo(0, size, Channels.newChannel(out)));
+        }
+
+        final var start = aRange.getRangeStart(size);
+        if (start >= size) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(size))
+                    .build();
+        }
+
+        final var length = aRange.getRangeEnd(size) - start + 1;
+
+        return mediaResponse(HttpStatus.PARTIAL_CONTENT, aMedia, eTag)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, start + length - 1, size))
+                .contentLength(length)
+                .body(out -> aMedia.content().transferTo(start, length, Channels.newChannel(out)));
     }
 
     @Override
     public ResponseEntity<?> uploadMediaByType(final String id, final String type, final MultipartFile media) {
-        final var aType = VideoMediaType.of(type)
-                .orElseThrow(
-                        () -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
+        final var aType = mediaTypeOf(type);
 
         final var aCmd =
                 UploadMediaCommand.with(id, VideoResource.with(aType, resourceOf(media)));
@@ -218,20 +272,112 @@ public class VideoController implements VideoAPI {
                 .body(VideoApiPresenter.present(output));
     }
 
-    private Resource resourceOf(final MultipartFile part) {
-        if (part == null) {
+    @Override
+    public ResponseEntity<?> createUploadSession(
+            final String id,
+            final String type,
+            final CreateUploadSessionRequest payload
+    ) {
+        final var aCmd = CreateMediaUploadSessionCommand.with(id, mediaTypeOf(type), payload.contentType());
+
+        final var output = this.createMediaUploadSessionUseCase.execute(aCmd);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s/upload-sessions/%s".formatted(id, type, output.uploadId())))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> completeUploadSession(
+            final String id,
+            final String type,
+            final String uploadId,
+            final CompleteUploadSessionRequest payload
+    ) {
+        final var aCmd = UploadMediaCommand.uploaded(id, mediaTypeOf(type), uploadId, payload.name());
+
+        final var output = this.uploadMediaUseCase.execute(aCmd);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(id, type)))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    private ResponseEntity.BodyBuilder mediaResponse(
+            final HttpStatus status,
+            final MediaOutput aMedia,
+            final String eTag
+    ) {
+        final var builder = ResponseEntity.status(status)
+                .contentType(MediaType.valueOf(aMedia.contentType()))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()));
+
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder;
+    }
+
+    private String eTagOf(final MediaOutput aMedia) {
+        if (aMedia.checksum() == null) {
+            return null;
+        }
+        return "\"%s\"".formatted(aMedia.checksum());
+    }
+
+    // weak and strong validators compare the same way for a GET, both only carry the checksum.
+    // a bare * matches any current representation of the media (RFC 9110 13.1.2)
+    private Set<String> checksumsOf(final String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return Set.of();
+        }
+        if (ifNoneMatch.trim().equals(GetMediaCommand.ANY_CHECKSUM)) {
+            return Set.of(GetMediaCommand.ANY_CHECKSUM);
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(it -> it.startsWith("W/") ? it.substring(2) : it)
+                .filter(it -> it.length() > 2 && it.startsWith("\"") && it.endsWith("\""))
+                .map(it -> it.substring(1, it.length() - 1))
+                .collect(Collectors.toSet());
+    }
+
+    // multiple ranges, malformed headers and stale If-Range validators fall back to the full content
+    private HttpRange requestedRange(final String range, final String ifRange, final String eTag) {
+        if (range == null || range.isBlank()) {
+            return null;
+        }
+
+        if (ifRange != null && !ifRange.equals(eTag)) {
             return null;
         }
 
         try {
-            return Resource.with(
-                    part.getBytes(),
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
+            final var ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
+
+    private VideoMediaType mediaTypeOf(final String type) {
+        return VideoMediaType.of(type)
+                .orElseThrow(
+                        () -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
+    }
+
+    private Resource resourceOf(final MultipartFile part) {
+        if (part == null) {
+            return null;
+        }
+
+        return Resource.with(
+                part::getInputStream,
+                part.getSize(),
+                part.getContentType(),
+                part.getOriginalFilename()
+        );
+    }
 }
\ No newline at end of file
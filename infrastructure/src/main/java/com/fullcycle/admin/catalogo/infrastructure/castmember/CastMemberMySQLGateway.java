@@ -7,14 +7,15 @@ import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.InMemoryTextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.utils.NgramIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.PaginationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextSearches;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -22,8 +23,11 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final InMemoryTextSearch<CastMemberJpaEntity> textSearch;
+
+    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository, final TextSearches textSearches) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.textSearch = textSearches.inMemory("cast_members", castMemberRepository, "name");
     }
 
     @Override
@@ -34,13 +38,17 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     @Override
     public void deleteById(final CastMemberID aMemberId) {
         final var anId = aMemberId.getValue();
-        if (this.castMemberRepository.existsById(anId)) {
+        if (BinaryIdType.isId(anId) && this.castMemberRepository.existsById(anId)) {
             this.castMemberRepository.deleteById(anId);
         }
+        this.textSearch.remove(anId);
     }
 
     @Override
     public Optional<CastMember> findById(final CastMemberID anId) {
+        if (!BinaryIdType.isId(anId.getValue())) {
+            return Optional.empty();
+        }
         return this.castMemberRepository.findById(anId.getValue())
                 .map(CastMemberJpaEntity::toAggregate);
     }
@@ -52,44 +60,29 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
-        final var pageResult =
-                this.castMemberRepository.findAll(where, page);
+        final var where = this.textSearch.search(aQuery.terms(), aQuery.sort());
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
-        );
+        return PaginationUtils.findAll(this.castMemberRepository, where, aQuery)
+                .map(CastMemberJpaEntity::toAggregate);
     }
 
     @Override
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> castMemberIDS) {
         final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
                 .map(CastMemberID::getValue)
+                .filter(BinaryIdType::isId)
                 .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
         return this.castMemberRepository.existsByIds(ids).stream()
                 .map(CastMemberID::from)
                 .toList();
     }
 
     private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
-                .toAggregate();
-    }
-
-    private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        final var result = this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember));
+        this.textSearch.put(new NgramIndex.Document(result.getId(), result.getName()));
+        return result.toAggregate();
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
 import java.time.Instant;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -10,6 +11,7 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import org.hibernate.annotations.Type;
 
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
@@ -17,6 +19,7 @@ public class CastMemberJpaEntity {
 
     @Id
     @Column(name = "id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -1,16 +1,12 @@
 package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetRepository;
 import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
-
-    Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> specification, Pageable page);
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, KeysetRepository<CastMemberJpaEntity> {
 
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
@@ -7,25 +7,26 @@ import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.InMemoryTextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.utils.NgramIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.PaginationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextSearches;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
-
-import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
-import static org.springframework.data.domain.Sort.Direction.fromString;
-
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository repository;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private final InMemoryTextSearch<CategoryJpaEntity> textSearch;
+
+    public CategoryMySQLGateway(final CategoryRepository repository, final TextSearches textSearches) {
         this.repository = repository;
+        this.textSearch = textSearches.inMemory("categories", repository, "name", "description");
     }
 
     @Override
@@ -36,13 +37,17 @@ public class CategoryMySQLGateway implements CategoryGateway {
     @Override
     public void deleteById(CategoryID anId) {
         final String anIdValue = anId.getValue();
-        if (this.repository.existsById(anIdValue)) {
+        if (BinaryIdType.isId(anIdValue) && this.repository.existsById(anIdValue)) {
             this.repository.deleteById(anIdValue);
         }
+        this.textSearch.remove(anIdValue);
     }
 
     @Override
     public Optional<Category> findById(CategoryID anId) {
+        if (!BinaryIdType.isId(anId.getValue())) {
+            return Optional.empty();
+        }
         return this.repository.findById(anId.getValue()).map(CategoryJpaEntity::toAggregate);
     }
 
@@ -53,34 +58,29 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        //Paginação
-        final var page =
-                PageRequest.of(aQuery.page(), aQuery.perPage(), Sort.by(fromString(aQuery.direction()), aQuery.sort()));
-
         //Busca dinamica pelo critério terms (name ou description)
-        final var specifications =
-                Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank()).map(this::assembleSpecification)
-                        .orElse(null);
+        final var specifications = this.textSearch.search(aQuery.terms(), aQuery.sort());
 
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
-
-        return new Pagination<>(pageResult.getNumber(), pageResult.getSize(), pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList());
+        //Paginação por página ou a partir do cursor
+        return PaginationUtils.findAll(this.repository, specifications, aQuery)
+                .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
-        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false).map(CategoryID::getValue).toList();
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryID::getValue)
+                .filter(BinaryIdType::isId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
         return this.repository.existsByIds(ids).stream().map(CategoryID::from).toList();
     }
 
     private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
-    }
-
-    private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", str);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-        return nameLike.or(descriptionLike);
+        final var result = this.repository.save(CategoryJpaEntity.from(aCategory));
+        this.textSearch.put(new NgramIndex.Document(result.getId(), result.getName(), result.getDescription()));
+        return result.toAggregate();
     }
 }
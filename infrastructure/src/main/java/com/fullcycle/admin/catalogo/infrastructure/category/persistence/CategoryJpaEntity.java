@@ -2,11 +2,13 @@ package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
 import java.time.Instant;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import org.hibernate.annotations.Type;
 
 @Entity(name = "Category")
 @Table(name = "categories")
@@ -14,6 +16,7 @@ public class CategoryJpaEntity {
 
     @Id
     @Column(name = "id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
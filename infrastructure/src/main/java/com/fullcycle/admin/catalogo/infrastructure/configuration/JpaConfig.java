@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.IdProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.InMemorySearchProperties;
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdGenerator;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetJpaRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextSearches;
+import javax.sql.DataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Configuration
+@EnableJpaRepositories(
+        basePackages = "com.fullcycle.admin.catalogo.infrastructure",
+        repositoryBaseClass = KeysetJpaRepository.class
+)
+public class JpaConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "ids")
+    public IdProperties idProperties() {
+        return new IdProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    public IdGenerator idGenerator(final IdProperties props) {
+        return IdGenerator.install(props.getGenerator());
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "search.in-memory")
+    public InMemorySearchProperties inMemorySearchProperties() {
+        return new InMemorySearchProperties();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public TextSearches textSearches(final DataSource dataSource, final InMemorySearchProperties props) {
+        return new TextSearches(dataSource, props);
+    }
+}
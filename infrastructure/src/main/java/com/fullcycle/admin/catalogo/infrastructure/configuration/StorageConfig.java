@@ -4,9 +4,20 @@ import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.Goog
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.StorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.impl.GCStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.FileSystemStorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.ImageResourceCache;
+import com.fullcycle.admin.catalogo.infrastructure.video.MediaLocationMigration;
+import com.fullcycle.admin.catalogo.infrastructure.video.repository.VideoRepository;
 import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,12 +33,54 @@ public class StorageConfig {
     }
 
     @Bean
+    public ImageResourceCache imageResourceCache(final StorageProperties props) {
+        return new ImageResourceCache(props.getImageCacheMaxBytes());
+    }
+
+    @Bean
+    public MeterBinder imageResourceCacheMetrics(final ImageResourceCache cache) {
+        return registry -> {
+            FunctionCounter.builder("images.cache.hits", cache, ImageResourceCache::hits)
+                    .description("Image reads served from the in-memory cache")
+                    .register(registry);
+            FunctionCounter.builder("images.cache.misses", cache, ImageResourceCache::misses)
+                    .description("Image reads that had to load the image from the storage")
+                    .register(registry);
+            Gauge.builder("images.cache.used.bytes", cache, ImageResourceCache::usedBytes)
+                    .description("Bytes of images currently cached")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("images.cache.allocated.bytes", cache, ImageResourceCache::allocatedBytes)
+                    .description("Native memory held by cached images, including evicted ones still being read")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("images.cache.max.bytes", cache, ImageResourceCache::maxBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "filesystem-root")
+    public StorageService fileSystemStorageAPI(final StorageProperties props) {
+        return new FileSystemStorageService(Path.of(props.getFilesystemRoot()));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
     @Profile({"production", "development"})
     public StorageService gcStorageAPI(
             final GoogleStorageProperties props,
             final Storage storage
     ) {
-        return new GCStorageService(props.getBucket(), storage);
+        return new GCStorageService(
+                props.getBucket(),
+                storage,
+                props.getUploadChunkSize(),
+                props.getUploadMaxResumes(),
+                props.getCompositeUploadThreshold(),
+                props.getCompositeUploadParts()
+        );
     }
 
     @Bean
@@ -35,4 +88,24 @@ public class StorageConfig {
     public StorageService localStorageAPI() {
         return new InMemoryStorageService();
     }
-}
\ No newline at end of file
+
+    // every node configured with it tries at startup, only the one holding its lease in the database runs it
+    @Bean
+    @ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "migrate-from-location-pattern")
+    public ApplicationRunner mediaLocationMigration(
+            final StorageProperties props,
+            final StorageService storageService,
+            final VideoRepository videoRepository
+    ) {
+        final var migration = new MediaLocationMigration(
+                props.getMigrateFromLocationPattern(),
+                props.getLocationPattern(),
+                props.getFilenamePattern(),
+                storageService,
+                videoRepository,
+                props.getMigrationBatchSize(),
+                Duration.ofSeconds(props.getMigrationLeaseSeconds())
+        );
+        return args -> migration.migrate();
+    }
+}
@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.UploadProperties;
+import com.fullcycle.admin.catalogo.infrastructure.uploads.UploadBudget;
+import com.fullcycle.admin.catalogo.infrastructure.uploads.UploadBudgetFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class UploadConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "uploads")
+    public UploadProperties uploadProperties() {
+        return new UploadProperties();
+    }
+
+    @Bean
+    public UploadBudget uploadBudget(final UploadProperties props) {
+        return new UploadBudget(props.getMaxInFlightBytes());
+    }
+
+    @Bean
+    public FilterRegistrationBean<UploadBudgetFilter> uploadBudgetFilter(
+            final UploadBudget budget,
+            final UploadProperties props
+    ) {
+        final var registration =
+                new FilterRegistrationBean<>(new UploadBudgetFilter(budget, props.getRetryAfterSeconds()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder uploadBudgetMetrics(final UploadBudget budget) {
+        return registry -> {
+            Gauge.builder("uploads.in.flight.bytes", budget, UploadBudget::inFlightBytes)
+                    .description("Bytes of multipart uploads currently being received or handled")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("uploads.max.in.flight.bytes", budget, UploadBudget::maxBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
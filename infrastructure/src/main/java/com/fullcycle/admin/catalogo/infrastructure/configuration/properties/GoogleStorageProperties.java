@@ -22,6 +22,14 @@ public class GoogleStorageProperties implements InitializingBean {
 
     private double retryMultiplier;
 
+    private int uploadChunkSize;
+
+    private int uploadMaxResumes;
+
+    private long compositeUploadThreshold;
+
+    private int compositeUploadParts;
+
     public String getBucket() {
         return bucket;
     }
@@ -85,6 +93,42 @@ public class GoogleStorageProperties implements InitializingBean {
         return this;
     }
 
+    public int getUploadChunkSize() {
+        return uploadChunkSize;
+    }
+
+    public GoogleStorageProperties setUploadChunkSize(int uploadChunkSize) {
+        this.uploadChunkSize = uploadChunkSize;
+        return this;
+    }
+
+    public int getUploadMaxResumes() {
+        return uploadMaxResumes;
+    }
+
+    public GoogleStorageProperties setUploadMaxResumes(int uploadMaxResumes) {
+        this.uploadMaxResumes = uploadMaxResumes;
+        return this;
+    }
+
+    public long getCompositeUploadThreshold() {
+        return compositeUploadThreshold;
+    }
+
+    public GoogleStorageProperties setCompositeUploadThreshold(long compositeUploadThreshold) {
+        this.compositeUploadThreshold = compositeUploadThreshold;
+        return this;
+    }
+
+    public int getCompositeUploadParts() {
+        return compositeUploadParts;
+    }
+
+    public GoogleStorageProperties setCompositeUploadParts(int compositeUploadParts) {
+        this.compositeUploadParts = compositeUploadParts;
+        return this;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(toString());
@@ -100,6 +144,10 @@ public class GoogleStorageProperties implements InitializingBean {
                 ", retryMaxAttempts=" + retryMaxAttempts +
                 ", retryMaxDelay=" + retryMaxDelay +
                 ", retryMultiplier=" + retryMultiplier +
+                ", uploadChunkSize=" + uploadChunkSize +
+                ", uploadMaxResumes=" + uploadMaxResumes +
+                ", compositeUploadThreshold=" + compositeUploadThreshold +
+                ", compositeUploadParts=" + compositeUploadParts +
                 '}';
     }
 }
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class IdProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IdProperties.class);
+
+    private IdUtils.Generator generator = IdUtils.Generator.RANDOM;
+
+    public IdProperties() {
+    }
+
+    public IdUtils.Generator getGenerator() {
+        return generator;
+    }
+
+    public void setGenerator(IdUtils.Generator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "IdProperties{" +
+                "generator=" + generator +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class InMemorySearchProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySearchProperties.class);
+
+    private boolean enabled;
+
+    private long refreshInterval;
+
+    private long maxEntries;
+
+    public InMemorySearchProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(long refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "InMemorySearchProperties{" +
+                "enabled=" + enabled +
+                ", refreshInterval=" + refreshInterval +
+                ", maxEntries=" + maxEntries +
+                '}';
+    }
+}
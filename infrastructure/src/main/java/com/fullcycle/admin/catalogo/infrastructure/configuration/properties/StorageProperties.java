@@ -12,6 +12,22 @@ public class StorageProperties implements InitializingBean {
 
     private String filenamePattern;
 
+    private String filesystemRoot;
+
+    private int uploadThreads;
+
+    private long imageCacheMaxBytes;
+
+    private long downloadUrlTtlSeconds;
+
+    private long uploadUrlTtlSeconds;
+
+    private String migrateFromLocationPattern;
+
+    private int migrationBatchSize;
+
+    private long migrationLeaseSeconds;
+
     public StorageProperties() {
     }
 
@@ -31,6 +47,70 @@ public class StorageProperties implements InitializingBean {
         this.filenamePattern = filenamePattern;
     }
 
+    public String getFilesystemRoot() {
+        return filesystemRoot;
+    }
+
+    public void setFilesystemRoot(String filesystemRoot) {
+        this.filesystemRoot = filesystemRoot;
+    }
+
+    public int getUploadThreads() {
+        return uploadThreads;
+    }
+
+    public void setUploadThreads(int uploadThreads) {
+        this.uploadThreads = uploadThreads;
+    }
+
+    public long getImageCacheMaxBytes() {
+        return imageCacheMaxBytes;
+    }
+
+    public void setImageCacheMaxBytes(long imageCacheMaxBytes) {
+        this.imageCacheMaxBytes = imageCacheMaxBytes;
+    }
+
+    public long getDownloadUrlTtlSeconds() {
+        return downloadUrlTtlSeconds;
+    }
+
+    public void setDownloadUrlTtlSeconds(long downloadUrlTtlSeconds) {
+        this.downloadUrlTtlSeconds = downloadUrlTtlSeconds;
+    }
+
+    public long getUploadUrlTtlSeconds() {
+        return uploadUrlTtlSeconds;
+    }
+
+    public void setUploadUrlTtlSeconds(long uploadUrlTtlSeconds) {
+        this.uploadUrlTtlSeconds = uploadUrlTtlSeconds;
+    }
+
+    public String getMigrateFromLocationPattern() {
+        return migrateFromLocationPattern;
+    }
+
+    public void setMigrateFromLocationPattern(String migrateFromLocationPattern) {
+        this.migrateFromLocationPattern = migrateFromLocationPattern;
+    }
+
+    public int getMigrationBatchSize() {
+        return migrationBatchSize;
+    }
+
+    public void setMigrationBatchSize(int migrationBatchSize) {
+        this.migrationBatchSize = migrationBatchSize;
+    }
+
+    public long getMigrationLeaseSeconds() {
+        return migrationLeaseSeconds;
+    }
+
+    public void setMigrationLeaseSeconds(long migrationLeaseSeconds) {
+        this.migrationLeaseSeconds = migrationLeaseSeconds;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(toString());
@@ -41,6 +121,14 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
                 ", filenamePattern='" + filenamePattern + '\'' +
+                ", filesystemRoot='" + filesystemRoot + '\'' +
+                ", uploadThreads=" + uploadThreads +
+                ", imageCacheMaxBytes=" + imageCacheMaxBytes +
+                ", downloadUrlTtlSeconds=" + downloadUrlTtlSeconds +
+                ", uploadUrlTtlSeconds=" + uploadUrlTtlSeconds +
+                ", migrateFromLocationPattern='" + migrateFromLocationPattern + '\'' +
+                ", migrationBatchSize=" + migrationBatchSize +
+                ", migrationLeaseSeconds=" + migrationLeaseSeconds +
                 '}';
     }
 }
\ No newline at end of file
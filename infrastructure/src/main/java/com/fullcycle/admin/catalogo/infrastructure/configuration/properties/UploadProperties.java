@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class UploadProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadProperties.class);
+
+    private long maxInFlightBytes;
+
+    private long retryAfterSeconds;
+
+    public UploadProperties() {
+    }
+
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    public void setMaxInFlightBytes(long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "UploadProperties{" +
+                "maxInFlightBytes=" + maxInFlightBytes +
+                ", retryAfterSeconds=" + retryAfterSeconds +
+                '}';
+    }
+}
@@ -8,6 +8,8 @@ import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaU
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultCreateMediaUploadSessionUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultUploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
@@ -21,7 +23,11 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.StorageProperties;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -48,9 +54,26 @@ public class VideoUseCaseConfig {
         this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService mediaUploadExecutor(final StorageProperties props) {
+        final var threads = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(props.getUploadThreads(), 1), r -> {
+            final var thread = new Thread(r, "media-upload-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @Bean
-    public CreateVideoUseCase createVideoUseCase() {
-        return new DefaultCreateVideoUseCase(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway);
+    public CreateVideoUseCase createVideoUseCase(final ExecutorService mediaUploadExecutor) {
+        return new DefaultCreateVideoUseCase(
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                videoGateway,
+                mediaUploadExecutor
+        );
     }
 
     @Bean
@@ -75,7 +98,7 @@ public class VideoUseCaseConfig {
 
     @Bean
     public GetMediaUseCase getMediaUseCase() {
-        return new DefaultGetMediaUseCase(mediaResourceGateway);
+        return new DefaultGetMediaUseCase(mediaResourceGateway, videoGateway);
     }
 
     @Bean
@@ -83,6 +106,11 @@ public class VideoUseCaseConfig {
         return new DefaultUploadMediaUseCase(mediaResourceGateway, videoGateway);
     }
 
+    @Bean
+    public CreateMediaUploadSessionUseCase createMediaUploadSessionUseCase() {
+        return new DefaultCreateMediaUploadSessionUseCase(mediaResourceGateway, videoGateway);
+    }
+
     @Bean
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
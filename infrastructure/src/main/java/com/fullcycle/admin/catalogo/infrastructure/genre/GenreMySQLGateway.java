@@ -1,98 +1,117 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryID;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreSummary;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.InMemoryTextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.utils.NgramIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.PaginationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextSearches;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
-
-
-import static org.springframework.data.jpa.domain.Specification.where;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    private final InMemoryTextSearch<GenreJpaEntity> textSearch;
+
+    public GenreMySQLGateway(final GenreRepository genreRepository, final TextSearches textSearches) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.textSearch = textSearches.inMemory("genres", genreRepository, "name");
     }
 
     @Override
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        return save(GenreJpaEntity.from(aGenre));
     }
 
     @Override
     public void deleteById(final GenreID anId) {
         final var aGenreId = anId.getValue();
-        if (this.genreRepository.existsById(aGenreId)) {
+        if (BinaryIdType.isId(aGenreId) && this.genreRepository.existsById(aGenreId)) {
             this.genreRepository.deleteById(aGenreId);
         }
+        this.textSearch.remove(aGenreId);
     }
 
     @Override
     public Optional<Genre> findById(final GenreID anId) {
+        if (!BinaryIdType.isId(anId.getValue())) {
+            return Optional.empty();
+        }
         return this.genreRepository.findById(anId.getValue())
                 .map(GenreJpaEntity::toAggregate);
     }
 
     @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        // the stored genre is changed in place, so only the category rows that differ are deleted or inserted
+        final var anEntity = this.genreRepository.findById(aGenre.getId().getValue())
+                .map(current -> current.update(aGenre))
+                .orElseGet(() -> GenreJpaEntity.from(aGenre));
+        return save(anEntity);
     }
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
-        final var pageResult =
-                this.genreRepository.findAll(where(where), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
-        );
+        final var where = this.textSearch.search(aQuery.terms(), aQuery.sort());
+
+        // loading the entities would select the eager categories once per genre, the page is read as rows instead
+        // and the categories of all its genres come in one more query
+        final var page =
+                PaginationUtils.findAll(this.genreRepository, where, aQuery, GenreSummary.class, GenreSummary.ATTRIBUTES);
+        final var categories = categoriesOf(page.items());
+
+        return page.map(aGenre -> aGenre.toAggregate(categories.getOrDefault(aGenre.id(), List.of())));
     }
 
     @Override
     public List<GenreID> existsByIds(final Iterable<GenreID> genreIDS) {
         final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
                 .map(GenreID::getValue)
+                .filter(BinaryIdType::isId)
                 .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
         return this.genreRepository.existsByIds(ids).stream()
                 .map(GenreID::from)
                 .toList();
     }
 
-    private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre))
-                .toAggregate();
+    private Map<String, List<CategoryID>> categoriesOf(final List<GenreSummary> genres) {
+        if (genres.isEmpty()) {
+            return Map.of();
+        }
+
+        final var ids = genres.stream().map(GenreSummary::id).toList();
+        return this.genreRepository.findCategoryIdsByGenreIds(ids).stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryID::getGenreId,
+                        Collectors.mapping(it -> CategoryID.from(it.getCategoryId()), Collectors.toList())
+                ));
     }
 
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private Genre save(final GenreJpaEntity anEntity) {
+        final var result = this.genreRepository.save(anEntity);
+        this.textSearch.put(new NgramIndex.Document(result.getId(), result.getName()));
+        return result.toAggregate();
     }
 }
\ No newline at end of file
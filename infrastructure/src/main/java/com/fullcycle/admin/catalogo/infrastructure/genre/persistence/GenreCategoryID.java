@@ -1,17 +1,21 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
 import java.io.Serializable;
 import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import org.hibernate.annotations.Type;
 
 @Embeddable
 public class GenreCategoryID implements Serializable {
 
     @Column(name = "genre_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String genreId;
 
     @Column(name = "category_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String categoryId;
 
     public GenreCategoryID() {
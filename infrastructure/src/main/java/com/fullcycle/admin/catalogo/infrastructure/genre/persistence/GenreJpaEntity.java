@@ -3,6 +3,8 @@ package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.AssociationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
@@ -12,6 +14,7 @@ import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import org.hibernate.annotations.Type;
 
 
 import static javax.persistence.CascadeType.ALL;
@@ -23,6 +26,7 @@ public class GenreJpaEntity {
 
     @Id
     @Column(name = "id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -79,6 +83,17 @@ public class GenreJpaEntity {
         return anEntity;
     }
 
+    // copies the aggregate onto this managed entity, only the categories that were added or removed are written
+    public GenreJpaEntity update(final Genre aGenre) {
+        this.name = aGenre.getName();
+        this.active = aGenre.isActive();
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+
+        AssociationUtils.sync(this.categories, aGenre.getCategories(), it -> it.getId().getCategoryId(), this::addCategory);
+        return this;
+    }
+
     public Genre toAggregate() {
         return Genre.with(
                 GenreID.from(getId()),
@@ -1,17 +1,17 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetRepository;
+import java.util.Collection;
 import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
-
-    Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, KeysetRepository<GenreJpaEntity> {
 
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :ids")
+    List<GenreCategoryID> findCategoryIdsByGenreIds(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import java.time.Instant;
+import java.util.List;
+
+// a genre row without its categories, read as a projection so listing never touches the eager collection
+public record GenreSummary(
+        String id,
+        String name,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public static final String[] ATTRIBUTES = {"id", "name", "active", "createdAt", "updatedAt", "deletedAt"};
+
+    public Genre toAggregate(final List<CategoryID> categories) {
+        return Genre.with(
+                GenreID.from(id),
+                name,
+                active,
+                categories,
+                createdAt,
+                updatedAt,
+                deletedAt
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.services;
+
+import java.util.Map;
+
+// the request a client has to send, exactly like this, for the storage to accept its bytes
+public record SignedUpload(
+        String url,
+        String method,
+        Map<String, String> headers
+) {
+}
@@ -1,12 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure.services;
 
 import com.fullcycle.admin.catalogo.domain.video.Resource;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 public interface StorageService {
 
-    void store(String name, Resource resource);
+    // returns the CRC32C of what was stored, computed while the content streams when the resource has none
+    String store(String name, Resource resource);
 
     Optional<Resource> get(String id);
 
@@ -14,4 +16,37 @@ public interface StorageService {
 
     void deleteAll(List<String> ids);
 
+    // an opaque token that changes whenever the object is replaced or touched
+    Optional<String> version(String id);
+
+    // changes the version of an existing object without rewriting it, false when there is no object to touch
+    boolean touch(String id);
+
+    // deletes the object only while it still has the given version, false when it changed or is already gone
+    boolean deleteIfVersion(String id, String version);
+
+    // answered from the configuration alone, so callers can skip looking anything up when no URL can come out
+    default boolean canSignDownloadUrls() {
+        return false;
+    }
+
+    // backends that cannot hand out URLs return empty and keep serving content through get
+    default Optional<String> signedUrl(final String id, final String downloadName, final Duration ttl) {
+        return Optional.empty();
+    }
+
+    // backends that cannot take uploads from clients return empty, media then has to go through store
+    default Optional<SignedUpload> signedUploadUrl(final String id, final String contentType, final Duration ttl) {
+        return Optional.empty();
+    }
+
+    // backends that can copy on their side override it, the default streams the content through this node
+    default void copy(final String fromId, final String toId) {
+        get(fromId).ifPresent(it -> store(toId, it));
+    }
+
+    default void deleteByPrefix(final String prefix) {
+        deleteAll(list(prefix));
+    }
+
 }
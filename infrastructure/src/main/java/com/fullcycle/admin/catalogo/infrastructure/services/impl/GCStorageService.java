@@ -1,62 +1,516 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
+import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.SignedUpload;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.google.auth.ServiceAccountSigner;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class GCStorageService implements StorageService {
 
+    private static final Logger log = LoggerFactory.getLogger(GCStorageService.class);
+
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    public static final int DEFAULT_MAX_RESUMES = 3;
+
+    private static final int MAX_COMPOSE_SOURCES = 32;
+
+    private static final int LIST_PAGE_SIZE = 1000;
+
+    private static final String RESUMABLE_HEADER = "x-goog-resumable";
+
+    private static final String TOUCHED_METADATA = "touched-at";
+
+    private static final int NOT_FOUND = 404;
+
+    private static final int PRECONDITION_FAILED = 412;
+
+    // the JSON API accepts at most 100 calls in a single batch request
+    private static final int DELETE_BATCH_SIZE = 100;
+
+    private static final int DELETE_PARALLELISM = 4;
+
+    private static final int DELETE_MAX_ATTEMPTS = 3;
+
+    private static final long DELETE_RETRY_DELAY_MS = 200;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
     private final String bucket;
 
     private final Storage storage;
 
+    private final int chunkSize;
+
+    private final int maxResumes;
+
+    private final long compositeThreshold;
+
+    private final int compositeParts;
+
+    private final ExecutorService compositeExecutor;
+
+    private final ExecutorService deleteExecutor;
+
     public GCStorageService(final String bucket, final Storage storage) {
+        this(bucket, storage, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_RESUMES, 0, 0);
+    }
+
+    public GCStorageService(
+            final String bucket,
+            final Storage storage,
+            final int chunkSize,
+            final int maxResumes,
+            final long compositeThreshold,
+            final int compositeParts
+    ) {
         this.bucket = bucket;
         this.storage = storage;
+        this.chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+        this.maxResumes = Math.max(maxResumes, 0);
+        this.compositeParts = Math.min(compositeParts, MAX_COMPOSE_SOURCES);
+        this.compositeThreshold = this.compositeParts > 1 ? compositeThreshold : 0;
+        this.compositeExecutor = this.compositeThreshold > 0
+                ? Executors.newFixedThreadPool(this.compositeParts, GCStorageService::uploadThread)
+                : null;
+        this.deleteExecutor = Executors.newFixedThreadPool(DELETE_PARALLELISM, GCStorageService::deleteThread);
     }
 
     @Override
-    public void store(final String id, final Resource resource) {
-        final var info = BlobInfo.newBuilder(this.bucket, id)
-                .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
-                .build();
+    public String store(final String id, final Resource resource) {
+        if (this.compositeThreshold > 0 && resource.size() >= this.compositeThreshold) {
+            return storeComposite(id, resource);
+        }
+
+        final var builder = BlobInfo.newBuilder(this.bucket, id)
+                .setContentType(resource.contentType());
+
+        // a known checksum goes along with the upload, GCS rejects the object when what it received differs
+        if (resource.hasChecksum()) {
+            builder.setCrc32cFromHexString(HashingUtils.toBigEndianHex(resource.checksum()));
+            storeResumable(builder.build(), resource, Storage.BlobWriteOption.crc32cMatch());
+            return resource.checksum();
+        }
 
-        this.storage.create(info, resource.content());
+        final var checksum = storeResumable(builder.build(), resource);
+        return checksum;
     }
 
     @Override
     public Optional<Resource> get(final String id) {
         return Optional.ofNullable(this.storage.get(this.bucket, id))
                 .map(blob -> Resource.with(
-                        blob.getContent(),
-                        blob.getCrc32cToHexString(),
+                        new BlobSource(blob),
+                        blob.getSize(),
+                        HashingUtils.fromBigEndianHex(blob.getCrc32cToHexString()),
                         blob.getContentType(),
                         blob.getName()
                 ));
     }
 
+    // the generation changes when the object is replaced and the metageneration when it is touched
+    @Override
+    public Optional<String> version(final String id) {
+        final var fields = Storage.BlobGetOption.fields(Storage.BlobField.GENERATION, Storage.BlobField.METAGENERATION);
+        return Optional.ofNullable(this.storage.get(this.bucket, id, fields))
+                .map(blob -> "%d:%d".formatted(blob.getGeneration(), blob.getMetageneration()));
+    }
+
+    // a metadata patch bumps the metageneration without rewriting the bytes
+    @Override
+    public boolean touch(final String id) {
+        final var info = BlobInfo.newBuilder(this.bucket, id)
+                .setMetadata(Map.of(TOUCHED_METADATA, Long.toString(System.currentTimeMillis())))
+                .build();
+        try {
+            return this.storage.update(info) != null;
+        } catch (StorageException e) {
+            if (e.getCode() == NOT_FOUND) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    // both preconditions are checked by GCS together with the delete, nothing can slip in between
+    @Override
+    public boolean deleteIfVersion(final String id, final String version) {
+        final var generations = version.split(":");
+        final var blobId = BlobId.of(this.bucket, id, Long.parseLong(generations[0]));
+        try {
+            return this.storage.delete(
+                    blobId,
+                    Storage.BlobSourceOption.generationMatch(),
+                    Storage.BlobSourceOption.metagenerationMatch(Long.parseLong(generations[1]))
+            );
+        } catch (StorageException e) {
+            if (e.getCode() == PRECONDITION_FAILED) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public List<String> list(final String prefix) {
-        final var blobs = this.storage.list(bucket, Storage.BlobListOption.prefix(prefix));
+        final var ids = new ArrayList<String>();
+        forEachPage(prefix, LIST_PAGE_SIZE, page -> page.forEach(blob -> ids.add(blob.getName())));
+        return ids;
+    }
 
-        return StreamSupport.stream(blobs.iterateAll().spliterator(), false)
-                .map(BlobInfo::getBlobId)
-                .map(BlobId::getName)
-                .toList();
+    // the bytes are rewritten inside the bucket, large objects take several rewrite calls that getResult drives
+    @Override
+    public void copy(final String fromId, final String toId) {
+        this.storage.copy(Storage.CopyRequest.of(this.bucket, fromId, BlobId.of(this.bucket, toId))).getResult();
+    }
+
+    // only credentials that can sign blobs produce URLs, the client rejects any other kind before signing
+    @Override
+    public boolean canSignDownloadUrls() {
+        final var options = this.storage.getOptions();
+        return options != null && options.getCredentials() instanceof ServiceAccountSigner;
+    }
+
+    // V4 URLs are signed with the service account credentials: a key file signs on the node, but impersonated and
+    // metadata server credentials call the IAM signBlob API, so this may be a remote call that can fail
+    @Override
+    public Optional<String> signedUrl(final String id, final String downloadName, final Duration ttl) {
+        final var info = BlobInfo.newBuilder(this.bucket, id).build();
+        final var disposition = "attachment; filename=\"%s\"".formatted(downloadName.replace("\"", ""));
+
+        try {
+            final var url = this.storage.signUrl(
+                    info,
+                    ttl.toSeconds(),
+                    TimeUnit.SECONDS,
+                    Storage.SignUrlOption.withV4Signature(),
+                    Storage.SignUrlOption.withQueryParams(Map.of("response-content-disposition", disposition))
+            );
+            return Optional.of(url.toString());
+        } catch (IllegalStateException | ServiceAccountSigner.SigningException e) {
+            log.warn("Failed to sign a download URL for {}, falling back to proxying it", id, e);
+            return Optional.empty();
+        }
+    }
+
+    // the client POSTs to the url to open a resumable session and then sends the bytes to the session it gets back
+    @Override
+    public Optional<SignedUpload> signedUploadUrl(final String id, final String contentType, final Duration ttl) {
+        final var info = BlobInfo.newBuilder(this.bucket, id)
+                .setContentType(contentType)
+                .build();
+        final var resumable = Map.of(RESUMABLE_HEADER, "start");
+
+        try {
+            final var url = this.storage.signUrl(
+                    info,
+                    ttl.toSeconds(),
+                    TimeUnit.SECONDS,
+                    Storage.SignUrlOption.withV4Signature(),
+                    Storage.SignUrlOption.httpMethod(HttpMethod.POST),
+                    Storage.SignUrlOption.withContentType(),
+                    Storage.SignUrlOption.withExtHeaders(resumable)
+            );
+            return Optional.of(new SignedUpload(
+                    url.toString(),
+                    HttpMethod.POST.name(),
+                    Map.of(RESUMABLE_HEADER, "start", "Content-Type", contentType)
+            ));
+        } catch (IllegalStateException | ServiceAccountSigner.SigningException e) {
+            log.warn("Failed to sign an upload URL for {}", id, e);
+            return Optional.empty();
+        }
     }
 
     @Override
     public void deleteAll(final List<String> ids) {
-        final var blobs = ids.stream()
-                .map(id -> BlobId.of(this.bucket, id))
+        final var batches = new DeleteBatches();
+        for (int from = 0; from < ids.size(); from += DELETE_BATCH_SIZE) {
+            batches.submit(ids.subList(from, Math.min(from + DELETE_BATCH_SIZE, ids.size())).stream()
+                    .map(id -> BlobId.of(this.bucket, id))
+                    .toList());
+        }
+        batches.await();
+    }
+
+    // every listed page is one delete batch, sent while the next page is fetched, so memory stays flat
+    @Override
+    public void deleteByPrefix(final String prefix) {
+        final var batches = new DeleteBatches();
+        forEachPage(prefix, DELETE_BATCH_SIZE, page -> batches.submit(page.stream().map(BlobInfo::getBlobId).toList()));
+        batches.await();
+    }
+
+    private void forEachPage(final String prefix, final int pageSize, final Consumer<List<Blob>> action) {
+        var page = this.storage.list(
+                this.bucket,
+                Storage.BlobListOption.prefix(prefix),
+                Storage.BlobListOption.pageSize(pageSize),
+                Storage.BlobListOption.fields(Storage.BlobField.NAME)
+        );
+
+        while (page != null) {
+            final var blobs = new ArrayList<Blob>();
+            page.getValues().forEach(blobs::add);
+            if (!blobs.isEmpty()) {
+                action.accept(blobs);
+            }
+            page = page.getNextPage();
+        }
+    }
+
+    // a false result is an object that was already gone or a call of the batch that failed, only the ones
+    // that are still stored are retried and whatever is left after the last attempt is reported
+    private void deleteWithRetry(final List<BlobId> batch) {
+        var pending = batch;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                pending = stillStored(notDeleted(pending, this.storage.delete(pending)));
+                if (pending.isEmpty()) {
+                    return;
+                }
+                if (attempt >= DELETE_MAX_ATTEMPTS) {
+                    throw InternalErrorException.with(
+                            "Failed to delete %s after %d attempts".formatted(namesOf(pending), attempt),
+                            null
+                    );
+                }
+            } catch (StorageException e) {
+                if (attempt >= DELETE_MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+
+            try {
+                Thread.sleep(DELETE_RETRY_DELAY_MS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw InternalErrorException.with("Interrupted while deleting %s".formatted(namesOf(pending)), e);
+            }
+        }
+    }
+
+    private static List<BlobId> notDeleted(final List<BlobId> ids, final List<Boolean> results) {
+        final var notDeleted = new ArrayList<BlobId>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (i >= results.size() || !Boolean.TRUE.equals(results.get(i))) {
+                notDeleted.add(ids.get(i));
+            }
+        }
+        return notDeleted;
+    }
+
+    private List<BlobId> stillStored(final List<BlobId> ids) {
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        return this.storage.get(ids).stream()
+                .filter(Objects::nonNull)
+                .map(blob -> BlobId.of(this.bucket, blob.getBlobId().getName()))
                 .toList();
+    }
+
+    private static List<String> namesOf(final List<BlobId> ids) {
+        return ids.stream().map(BlobId::getName).toList();
+    }
+
+    // the session is captured after every chunk, so a failed upload resumes from the last committed offset
+    private String storeResumable(final BlobInfo info, final Resource resource, final Storage.BlobWriteOption... options) {
+        final var size = resource.size();
+        final var chunk = new byte[(int) Math.max(Math.min(this.chunkSize, size), 1)];
+        final var crc = new CRC32C();
+
+        WriteChannel writer = this.storage.writer(info, options);
+        writer.setChunkSize(this.chunkSize);
+
+        RestorableState<WriteChannel> committedState = writer.capture();
+        long committed = 0;
+        int resumes = 0;
+
+        while (true) {
+            try (final var in = resource.openStream(committed, size - committed)) {
+                int read;
+                while ((read = in.readNBytes(chunk, 0, chunk.length)) > 0) {
+                    writer.write(ByteBuffer.wrap(chunk, 0, read));
+                    crc.update(chunk, 0, read);
+                    committed += read;
+                    committedState = writer.capture();
+                }
+
+                writer.close();
+                return HashingUtils.toHex(crc.getValue());
+            } catch (IOException | StorageException e) {
+                if (resumes++ >= this.maxResumes) {
+                    throw InternalErrorException.with(
+                            "Failed to store resource %s after %d resumes".formatted(info.getName(), this.maxResumes),
+                            e
+                    );
+                }
+                writer = committedState.restore();
+            }
+        }
+    }
+
+    private String storeComposite(final String id, final Resource resource) {
+        final var size = resource.size();
+        final var partSize = (size + this.compositeParts - 1) / this.compositeParts;
+
+        final var partNames = new ArrayList<String>();
+        final var uploads = new ArrayList<CompletableFuture<String>>();
+
+        for (long offset = 0; offset < size; offset += partSize) {
+            final var partName = "%s.part-%d".formatted(id, partNames.size());
+            final var partInfo = BlobInfo.newBuilder(this.bucket, partName)
+                    .setContentType(resource.contentType())
+                    .build();
+            final var part = resource.slice(offset, Math.min(partSize, size - offset));
+
+            partNames.add(partName);
+            uploads.add(CompletableFuture.supplyAsync(() -> storeResumable(partInfo, part), this.compositeExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+
+            final var target = BlobInfo.newBuilder(this.bucket, id)
+                    .setContentType(resource.contentType())
+                    .build();
+
+            final var composed = this.storage.compose(Storage.ComposeRequest.newBuilder()
+                    .addSource(partNames)
+                    .setTarget(target)
+                    .build());
+
+            final var checksum = HashingUtils.fromBigEndianHex(composed.getCrc32cToHexString());
+            if (resource.hasChecksum() && !resource.checksum().equalsIgnoreCase(checksum)) {
+                this.storage.delete(composed.getBlobId());
+                throw InternalErrorException.with(
+                        "Checksum mismatch for resource %s, expected %s but stored %s"
+                                .formatted(id, resource.checksum(), checksum),
+                        null
+                );
+            }
+            return checksum;
+        } catch (CompletionException e) {
+            uploads.forEach(it -> it.cancel(true));
+            throw InternalErrorException.with("Failed to store resource %s".formatted(id), e.getCause());
+        } finally {
+            deleteAll(partNames);
+        }
+    }
+
+    // the executors only run daemon threads, deletes already submitted still finish before the context is gone
+    public void shutdown() {
+        if (this.compositeExecutor != null) {
+            this.compositeExecutor.shutdown();
+        }
+        this.deleteExecutor.shutdown();
+        try {
+            this.deleteExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Thread uploadThread(final Runnable r) {
+        final var thread = new Thread(r, "gcs-composite-upload");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Thread deleteThread(final Runnable r) {
+        final var thread = new Thread(r, "gcs-delete");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    // at most DELETE_PARALLELISM batches are in flight, submit blocks the caller until one of them is done
+    private final class DeleteBatches {
+
+        private final Semaphore inFlight = new Semaphore(DELETE_PARALLELISM);
+
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private void submit(final List<BlobId> batch) {
+            this.inFlight.acquireUninterruptibly();
+
+            if (this.failure.get() != null) {
+                this.inFlight.release();
+                return;
+            }
+
+            try {
+                GCStorageService.this.deleteExecutor.execute(() -> {
+                    try {
+                        deleteWithRetry(batch);
+                    } catch (Throwable t) {
+                        this.failure.compareAndSet(null, t);
+                    } finally {
+                        this.inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                this.inFlight.release();
+                throw e;
+            }
+        }
+
+        private void await() {
+            this.inFlight.acquireUninterruptibly(DELETE_PARALLELISM);
+            this.inFlight.release(DELETE_PARALLELISM);
+
+            final var error = this.failure.get();
+            if (error != null) {
+                throw InternalErrorException.with("Failed to delete resources from bucket %s".formatted(bucket), error);
+            }
+        }
+    }
+
+    private record BlobSource(Blob blob) implements Resource.Source {
+
+        @Override
+        public InputStream open() {
+            return Channels.newInputStream(this.blob.reader());
+        }
 
-        this.storage.delete(blobs);
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var reader = this.blob.reader();
+            reader.seek(offset);
+            reader.limit(offset + length);
+            return Channels.newInputStream(reader);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,346 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ChecksumInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+public class FileSystemStorageService implements StorageService {
+
+    private static final String METADATA_SUFFIX = ".meta";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final byte[] TRAILER_MAGIC = "CATALOGO-META".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int TRAILER_TAIL_LENGTH = Integer.BYTES + TRAILER_MAGIC.length;
+
+    private final Path root;
+
+    public FileSystemStorageService(final Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    // the metadata is written after the content into the same temp file, so one atomic move publishes both and a
+    // get never pairs the content of one store with the metadata of another
+    @Override
+    public String store(final String id, final Resource resource) {
+        final var path = pathOf(id);
+        Path temp = null;
+
+        // each store writes its own temp file, concurrent stores of one id never share one and the last move wins
+        try {
+            Files.createDirectories(path.getParent());
+            temp = tempOf(path);
+
+            final String checksum;
+            try (final var in = new ChecksumInputStream(resource.openStream());
+                 final var out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+                checksum = resource.hasChecksum() ? resource.checksum() : in.checksum();
+
+                final var metadata = new Properties();
+                metadata.setProperty("checksum", checksum);
+                metadata.setProperty("contentType", resource.contentType());
+                metadata.setProperty("name", resource.name());
+                writeTrailer(out, metadata);
+            }
+
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            deleteQuietly(metadataOf(path));
+            return checksum;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw InternalErrorException.with("Failed to store resource %s".formatted(id), e);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        final var path = pathOf(id);
+
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var stored = readTrailer(channel).orElse(null);
+            final var size = stored != null ? stored.size() : channel.size();
+            final var metadata = stored != null ? stored.metadata() : readMetadataFile(path);
+
+            return Optional.of(Resource.with(
+                    new FileSource(path, size),
+                    size,
+                    metadata.getProperty("checksum"),
+                    metadata.getProperty("contentType"),
+                    metadata.getProperty("name")
+            ));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw InternalErrorException.with("Failed to read resource %s".formatted(id), e);
+        }
+    }
+
+    // the file key changes when a store moves a new file in and the modified time when it is touched
+    @Override
+    public Optional<String> version(final String id) {
+        try {
+            final var attributes = Files.readAttributes(pathOf(id), BasicFileAttributes.class);
+            return Optional.of("%s:%d".formatted(attributes.fileKey(), attributes.lastModifiedTime().toMillis()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw InternalErrorException.with("Failed to read version of resource %s".formatted(id), e);
+        }
+    }
+
+    // touching and the conditional delete hold the same lock, a delete can not pass its check while a touch runs
+    @Override
+    public synchronized boolean touch(final String id) {
+        final var path = pathOf(id);
+        try {
+            final var modified = Files.getLastModifiedTime(path).toMillis();
+            final var now = Math.max(System.currentTimeMillis(), modified + 1);
+            Files.setLastModifiedTime(path, FileTime.fromMillis(now));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw InternalErrorException.with("Failed to touch resource %s".formatted(id), e);
+        }
+    }
+
+    @Override
+    public synchronized boolean deleteIfVersion(final String id, final String version) {
+        if (version(id).filter(version::equals).isEmpty()) {
+            return false;
+        }
+        deleteAll(List.of(id));
+        return true;
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        final var separator = prefix.lastIndexOf('/');
+        final var dir = separator < 0 ? this.root : pathOf(prefix.substring(0, separator));
+
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+
+        try (final var paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile)
+                    .map(this::idOf)
+                    .filter(it -> it.startsWith(prefix))
+                    .filter(it -> !it.endsWith(METADATA_SUFFIX) && !it.endsWith(TEMP_SUFFIX))
+                    .toList();
+        } catch (IOException | UncheckedIOException e) {
+            throw InternalErrorException.with("Failed to list resources under %s".formatted(prefix), e);
+        }
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        ids.forEach(id -> {
+            final var path = pathOf(id);
+            deleteQuietly(path);
+            deleteQuietly(metadataOf(path));
+            deleteEmptyParents(path.getParent());
+        });
+    }
+
+    private Path pathOf(final String id) {
+        final var path = this.root.resolve(id).normalize();
+        if (!path.startsWith(this.root) || path.equals(this.root)) {
+            throw new IllegalArgumentException("Resource id %s escapes the storage root".formatted(id));
+        }
+        return path;
+    }
+
+    private String idOf(final Path path) {
+        return this.root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private static Path tempOf(final Path path) throws IOException {
+        return Files.createTempFile(path.getParent(), path.getFileName() + ".", TEMP_SUFFIX);
+    }
+
+    // the metadata as a properties block, then its length and TRAILER_MAGIC
+    private static void writeTrailer(final OutputStream out, final Properties metadata) throws IOException {
+        final var block = new ByteArrayOutputStream();
+        metadata.store(block, null);
+        block.writeTo(out);
+        out.write(ByteBuffer.allocate(TRAILER_TAIL_LENGTH).putInt(block.size()).put(TRAILER_MAGIC).array());
+    }
+
+    // empty for a file stored before the metadata moved into it, its metadata is still in the .meta file beside it
+    private static Optional<Stored> readTrailer(final FileChannel channel) throws IOException {
+        final var fileSize = channel.size();
+        if (fileSize < TRAILER_TAIL_LENGTH) {
+            return Optional.empty();
+        }
+
+        final var tail = readFully(channel, fileSize - TRAILER_TAIL_LENGTH, TRAILER_TAIL_LENGTH);
+        final var length = tail.getInt();
+        final var magic = new byte[TRAILER_MAGIC.length];
+        tail.get(magic);
+        if (!Arrays.equals(magic, TRAILER_MAGIC) || length < 0 || length > fileSize - TRAILER_TAIL_LENGTH) {
+            return Optional.empty();
+        }
+
+        final var size = fileSize - TRAILER_TAIL_LENGTH - length;
+        final var block = readFully(channel, size, length);
+        final var metadata = new Properties();
+        metadata.load(new ByteArrayInputStream(block.array()));
+        return Optional.of(new Stored(size, metadata));
+    }
+
+    private static ByteBuffer readFully(final FileChannel channel, final long position, final int length)
+            throws IOException {
+        final var buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static Properties readMetadataFile(final Path path) throws IOException {
+        try (final var in = Files.newInputStream(metadataOf(path))) {
+            final var metadata = new Properties();
+            metadata.load(in);
+            return metadata;
+        }
+    }
+
+    private static Path metadataOf(final Path path) {
+        return path.resolveSibling(path.getFileName() + METADATA_SUFFIX);
+    }
+
+    private void deleteEmptyParents(final Path dir) {
+        var current = dir;
+        while (current != null && !current.equals(this.root)) {
+            try {
+                Files.deleteIfExists(current);
+            } catch (IOException e) {
+                return;
+            }
+            current = current.getParent();
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private record Stored(long size, Properties metadata) {
+    }
+
+    // size stops reads before the metadata trailer
+    private record FileSource(Path path, long size) implements Resource.Source {
+
+        @Override
+        public InputStream open() throws IOException {
+            return open(0, this.size);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var channel = FileChannel.open(this.path, StandardOpenOption.READ).position(offset);
+            final var limit = Math.max(Math.min(length, this.size - offset), 0);
+            return new BoundedInputStream(Channels.newInputStream(channel), limit);
+        }
+
+        // FileChannel#transferTo only moves the bytes in the kernel when the target is a file or socket channel.
+        // a channel wrapping a response OutputStream still gets them copied through a heap buffer by the JDK
+        @Override
+        public long transferTo(final long offset, final long length, final WritableByteChannel target)
+                throws IOException {
+            try (final var channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+                var position = offset;
+                final var end = Math.min(offset + length, this.size);
+                while (position < end) {
+                    final var transferred = channel.transferTo(position, end - position, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                }
+                return position - offset;
+            }
+        }
+    }
+
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private BoundedInputStream(final InputStream in, final long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (this.remaining <= 0) {
+                return -1;
+            }
+            final var b = super.read();
+            if (b != -1) {
+                this.remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (this.remaining <= 0) {
+                return -1;
+            }
+            final var n = super.read(b, off, (int) Math.min(len, this.remaining));
+            if (n != -1) {
+                this.remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final var skipped = super.skip(Math.min(n, this.remaining));
+            this.remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), this.remaining);
+        }
+    }
+}
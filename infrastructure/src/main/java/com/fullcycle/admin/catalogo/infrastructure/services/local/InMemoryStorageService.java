@@ -1,31 +1,50 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
+import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.SignedUpload;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ChecksumInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class InMemoryStorageService implements StorageService {
 
-    private final Map<String, Resource> storage;
+    public static final String UPLOAD_SCHEME = "memory:";
+
+    private final ConcurrentNavigableMap<String, Resource> storage;
+
+    // every stored instance is its own version, they are numbered the first time somebody asks
+    private final Map<Resource, String> versions;
+    private final AtomicLong nextVersion;
 
     public InMemoryStorageService() {
-        this.storage = new ConcurrentHashMap<>();
+        this.storage = new ConcurrentSkipListMap<>();
+        this.versions = Collections.synchronizedMap(new WeakHashMap<>());
+        this.nextVersion = new AtomicLong();
     }
 
     public void clear() {
         this.storage.clear();
     }
 
-    public Map<String, Resource> storage() {
+    public ConcurrentNavigableMap<String, Resource> storage() {
         return this.storage;
     }
 
     @Override
-    public void store(final String id, final Resource resource) {
-        this.storage.put(id, resource);
+    public String store(final String id, final Resource resource) {
+        final var stored = buffered(resource);
+        this.storage.put(id, stored);
+        return stored.checksum();
     }
 
     @Override
@@ -33,15 +52,97 @@ public class InMemoryStorageService implements StorageService {
         return Optional.ofNullable(this.storage.get(id));
     }
 
+    @Override
+    public Optional<String> version(final String id) {
+        return get(id).map(this::versionOf);
+    }
+
+    @Override
+    public boolean touch(final String id) {
+        while (true) {
+            final var current = this.storage.get(id);
+            if (current == null) {
+                return false;
+            }
+            if (this.storage.replace(id, current, touched(current))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteIfVersion(final String id, final String version) {
+        final var current = this.storage.get(id);
+        return current != null && version.equals(versionOf(current)) && this.storage.remove(id, current);
+    }
+
+    @Override
+    public void copy(final String fromId, final String toId) {
+        get(fromId).ifPresent(it -> this.storage.put(toId, it));
+    }
+
+    // local stand-in for a signed upload, whoever holds the url stores the resource under the id it names
+    @Override
+    public Optional<SignedUpload> signedUploadUrl(final String id, final String contentType, final Duration ttl) {
+        return Optional.of(new SignedUpload(UPLOAD_SCHEME.concat(id), "PUT", Map.of("Content-Type", contentType)));
+    }
+
     @Override
     public List<String> list(final String prefix) {
-        return this.storage.keySet().stream()
-                .filter(it -> it.startsWith(prefix))
-                .toList();
+        return List.copyOf(withPrefix(prefix).keySet());
     }
 
+    // only the requested keys, one at a time: a key stored between two of them in the meantime is left alone
     @Override
     public void deleteAll(final List<String> ids) {
         ids.forEach(this.storage::remove);
     }
+
+    @Override
+    public void deleteByPrefix(final String prefix) {
+        withPrefix(prefix).clear();
+    }
+
+    public void deleteRange(final String fromInclusive, final String toInclusive) {
+        this.storage.subMap(fromInclusive, true, toInclusive, true).clear();
+    }
+
+    private ConcurrentNavigableMap<String, Resource> withPrefix(final String prefix) {
+        if (prefix.isEmpty()) {
+            return this.storage;
+        }
+
+        // the smallest string greater than every key starting with the prefix
+        var last = prefix.length() - 1;
+        while (last >= 0 && prefix.charAt(last) == Character.MAX_VALUE) {
+            last--;
+        }
+        if (last < 0) {
+            return this.storage.tailMap(prefix);
+        }
+        final var upperBound = prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+        return this.storage.subMap(prefix, upperBound);
+    }
+
+    private String versionOf(final Resource resource) {
+        return this.versions.computeIfAbsent(resource, it -> Long.toString(this.nextVersion.incrementAndGet()));
+    }
+
+    private static Resource touched(final Resource resource) {
+        return Resource.with(resource.content(), resource.checksum(), resource.contentType(), resource.name());
+    }
+
+    private Resource buffered(final Resource resource) {
+        if (!resource.isStreamed() && resource.hasChecksum()) {
+            return resource;
+        }
+
+        try (final var in = new ChecksumInputStream(resource.openStream())) {
+            final var content = in.readAllBytes();
+            final var checksum = resource.hasChecksum() ? resource.checksum() : in.checksum();
+            return Resource.with(content, checksum, resource.contentType(), resource.name());
+        } catch (IOException e) {
+            throw InternalErrorException.with("Failed to store resource %s".formatted(resource.name()), e);
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.infrastructure.uploads;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// bytes of multipart bodies the node has accepted and not finished handling, memory and spooled parts alike
+public class UploadBudget {
+
+    private final long maxBytes;
+
+    private final AtomicLong inFlightBytes;
+
+    public UploadBudget(final long maxBytes) {
+        this.maxBytes = Math.max(maxBytes, 0);
+        this.inFlightBytes = new AtomicLong();
+    }
+
+    // an idle node admits any upload, otherwise one larger than the whole budget could never get in
+    public boolean tryAcquire(final long bytes) {
+        while (true) {
+            final var current = this.inFlightBytes.get();
+            if (current > 0 && current + bytes > this.maxBytes) {
+                return false;
+            }
+            if (this.inFlightBytes.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(final long bytes) {
+        this.inFlightBytes.addAndGet(-bytes);
+    }
+
+    public long inFlightBytes() {
+        return this.inFlightBytes.get();
+    }
+
+    public long maxBytes() {
+        return this.maxBytes;
+    }
+}
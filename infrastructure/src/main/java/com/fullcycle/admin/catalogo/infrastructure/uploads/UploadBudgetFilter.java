@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.infrastructure.uploads;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// runs before the DispatcherServlet parses the parts, so a rejected upload is never read into memory or disk
+public class UploadBudgetFilter extends OncePerRequestFilter {
+
+    private final UploadBudget budget;
+
+    private final long retryAfterSeconds;
+
+    public UploadBudgetFilter(final UploadBudget budget, final long retryAfterSeconds) {
+        this.budget = Objects.requireNonNull(budget);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        final var contentType = request.getContentType();
+        return contentType == null || !contentType.toLowerCase().startsWith("multipart/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final var bytes = reservationOf(request);
+
+        if (!this.budget.tryAcquire(bytes)) {
+            reject(response);
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            this.budget.release(bytes);
+        }
+    }
+
+    // a body of unknown length may be as large as the whole budget
+    private long reservationOf(final HttpServletRequest request) {
+        final var length = request.getContentLengthLong();
+        return length < 0 ? this.budget.maxBytes() : length;
+    }
+
+    private void reject(final HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(this.retryAfterSeconds));
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(Json.writeValueAsString(Map.of(
+                "message", "Upload capacity exhausted, retry in %d seconds".formatted(this.retryAfterSeconds)
+        )));
+    }
+}
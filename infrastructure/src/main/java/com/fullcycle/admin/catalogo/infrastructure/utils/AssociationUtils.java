@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class AssociationUtils {
+
+    private AssociationUtils() {
+    }
+
+    // brings the rows of a managed collection to the wanted ids: only the extra rows are removed and only the missing
+    // ids added, so orphanRemoval deletes and the cascade inserts what changed and the rest is left untouched
+    public static <T, ID extends Identifier> void sync(
+            final Set<T> rows,
+            final Collection<ID> wanted,
+            final Function<T, String> idOf,
+            final Consumer<ID> add
+    ) {
+        final var wantedIds = wanted.stream().map(Identifier::getValue).collect(Collectors.toSet());
+        rows.removeIf(row -> !wantedIds.contains(idOf.apply(row)));
+
+        final var currentIds = rows.stream().map(idOf).collect(Collectors.toSet());
+        wanted.stream()
+                .filter(anId -> !currentIds.contains(anId.getValue()))
+                .forEach(add);
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.HexFormat;
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+// ids stay 32 hex digit strings in the entities and are stored as their 16 bytes in BINARY(16) columns.
+// a Hibernate type rather than an AttributeConverter because Hibernate 5 skips converters on @Id attributes
+public class BinaryIdType extends AbstractSingleColumnStandardBasicType<String> {
+
+    public static final String NAME = "com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType";
+
+    private static final int HEX_LENGTH = 32;
+    private static final HexFormat HEX = HexFormat.of();
+
+    public BinaryIdType() {
+        super(BinaryTypeDescriptor.INSTANCE, HexIdDescriptor.INSTANCE);
+    }
+
+    // an id that is not 32 hex digits can not be in the table, the gateways check the ids they are given before
+    // querying so that such an id is simply not found
+    public static boolean isId(final String id) {
+        return id != null && id.length() == HEX_LENGTH && isHex(id);
+    }
+
+    public static byte[] bytesOf(final String id) {
+        if (!isId(id)) {
+            throw new IllegalArgumentException("'%s' is not an id of %d hex digits".formatted(id, HEX_LENGTH));
+        }
+        return HEX.parseHex(id);
+    }
+
+    public static String hexOf(final byte[] bytes) {
+        return HEX.formatHex(bytes);
+    }
+
+    @Override
+    public String getName() {
+        return "binary-id";
+    }
+
+    private static boolean isHex(final String id) {
+        for (int i = 0; i < id.length(); i++) {
+            if (Character.digit(id.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class HexIdDescriptor extends AbstractTypeDescriptor<String> {
+
+        private static final HexIdDescriptor INSTANCE = new HexIdDescriptor();
+
+        private HexIdDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (byte[].class.isAssignableFrom(type)) {
+                return (X) bytesOf(value);
+            }
+            if (String.class.isAssignableFrom(type)) {
+                return (X) value;
+            }
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof byte[] bytes) {
+                return hexOf(bytes);
+            }
+            if (value instanceof String string) {
+                return string;
+            }
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32C;
+
+public class ChecksumInputStream extends FilterInputStream {
+
+    private static final int SKIP_BUFFER_SIZE = 8 * 1024;
+
+    private final CRC32C crc;
+
+    private boolean finished;
+
+    public ChecksumInputStream(final InputStream in) {
+        super(in);
+        this.crc = new CRC32C();
+    }
+
+    @Override
+    public int read() throws IOException {
+        final var b = super.read();
+        if (b == -1) {
+            this.finished = true;
+        } else {
+            this.crc.update(b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final var n = super.read(b, off, len);
+        if (n == -1) {
+            this.finished = true;
+        } else {
+            this.crc.update(b, off, n);
+        }
+        return n;
+    }
+
+    // skipped bytes still belong to the content, they are read through so the checksum covers them
+    @Override
+    public long skip(final long n) throws IOException {
+        final var scratch = new byte[(int) Math.min(Math.max(n, 0), SKIP_BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            final var read = read(scratch, 0, (int) Math.min(scratch.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public String checksum() {
+        if (!this.finished) {
+            throw new IllegalStateException("Checksum is only available once the stream was fully read");
+        }
+        return HashingUtils.toHex(this.crc.getValue());
+    }
+}
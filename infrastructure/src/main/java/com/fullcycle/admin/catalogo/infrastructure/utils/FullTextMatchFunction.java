@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.List;
+import org.hibernate.QueryException;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+// fulltext_match(a, b, 'terms') renders as MATCH(a, b) AGAINST('terms' IN BOOLEAN MODE), the relevance score.
+// registered through hibernate.metadata_builder_contributor
+public class FullTextMatchFunction implements SQLFunction, MetadataBuilderContributor {
+
+    public static final String NAME = "fulltext_match";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(NAME, this);
+    }
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return false;
+    }
+
+    @Override
+    public Type getReturnType(final Type firstArgumentType, final Mapping mapping) {
+        return StandardBasicTypes.DOUBLE;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public String render(final Type firstArgumentType, final List arguments, final SessionFactoryImplementor factory) {
+        if (arguments.size() < 2) {
+            throw new QueryException(NAME + " requires at least one column and the terms");
+        }
+        final var columns = String.join(", ", (List<String>) arguments.subList(0, arguments.size() - 1));
+        return "MATCH(" + columns + ") AGAINST(" + arguments.get(arguments.size() - 1) + " IN BOOLEAN MODE)";
+    }
+}
@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+
+import static org.springframework.data.jpa.domain.Specification.where;
+
+// MATCH(columns) AGAINST('+term* ...' IN BOOLEAN MODE) served by a MySQL FULLTEXT index over exactly these columns.
+// unlike LIKE, the terms are split into words and every word has to start a word of one of the columns, ignoring case.
+// words shorter than the index tokens are not in it, they are checked with LIKE 'WORD%' at the start of a column or
+// after a space or a line break on the rows the index found, or on every row when the terms hold no other word.
+// terms without any word at all are left to the fallback
+public class FullTextSearch<T> implements TextSearch<T> {
+
+    // innodb_ft_min_token_size default
+    public static final int MIN_TOKEN_SIZE = 3;
+
+    private final List<String> attributes;
+    private final TextSearch<T> fallback;
+
+    public FullTextSearch(final List<String> attributes, final TextSearch<T> fallback) {
+        if (attributes.isEmpty()) {
+            throw new IllegalArgumentException("'attributes' should not be empty");
+        }
+        this.attributes = List.copyOf(attributes);
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Specification<T> matching(final String terms) {
+        final var against = against(terms);
+        final var shortWords = shortWords(terms);
+        if (against.isEmpty()) {
+            return shortWords.isEmpty() ? this.fallback.matching(terms) : startingWords(shortWords);
+        }
+
+        final Specification<T> indexed = (root, query, cb) -> cb.greaterThan(score(root, cb, against), 0d);
+        return shortWords.isEmpty() ? indexed : where(indexed).and(startingWords(shortWords));
+    }
+
+    @Override
+    public Specification<T> byRelevance(final String terms) {
+        final var against = against(terms);
+        if (against.isEmpty()) {
+            return this.fallback.byRelevance(terms);
+        }
+        return (root, query, cb) -> {
+            if (!TextSearch.isCount(query)) {
+                query.orderBy(cb.desc(score(root, cb, against)), cb.asc(root.get(KeysetCursor.ID)));
+            }
+            return null;
+        };
+    }
+
+    // boolean mode operators typed by the user are dropped, they only split words
+    static String against(final String terms) {
+        return TextSearch.words(terms).stream()
+                .filter(word -> word.length() >= MIN_TOKEN_SIZE)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    static String shortWords(final String terms) {
+        return TextSearch.words(terms).stream()
+                .filter(word -> word.length() < MIN_TOKEN_SIZE)
+                .collect(Collectors.joining(" "));
+    }
+
+    private Expression<Double> score(final Root<T> root, final CriteriaBuilder cb, final String against) {
+        final var arguments = new Expression<?>[this.attributes.size() + 1];
+        for (int i = 0; i < this.attributes.size(); i++) {
+            arguments[i] = root.get(this.attributes.get(i));
+        }
+        arguments[arguments.length - 1] = cb.literal(against);
+        return cb.function(FullTextMatchFunction.NAME, Double.class, arguments);
+    }
+
+    @Override
+    public boolean matchesWordPrefixes() {
+        return true;
+    }
+
+    // words only hold letters and digits, nothing in them needs escaping
+    private Specification<T> startingWords(final String words) {
+        return (root, query, cb) -> cb.and(TextSearch.words(words).stream()
+                .map(word -> cb.or(this.attributes.stream()
+                        .map(attribute -> startsAWord(cb, root.get(attribute), word))
+                        .toArray(Predicate[]::new)))
+                .toArray(Predicate[]::new));
+    }
+
+    private static Predicate startsAWord(final CriteriaBuilder cb, final Expression<String> attribute, final String word) {
+        final var upper = cb.upper(attribute);
+        final var aWord = word.toUpperCase();
+        return cb.or(
+                cb.like(upper, aWord + "%"),
+                cb.like(upper, "% " + aWord + "%"),
+                cb.like(upper, "%\n" + aWord + "%")
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "FullTextSearch" + this.attributes;
+    }
+}
@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Objects;
+
+// takes the sha256 of a source while the storage reads it. bytes read in order extend the hash and ranges read again,
+// like a resumed upload does, are skipped; ranges read ahead of it, like the parallel parts of a composite upload,
+// leave a gap that sha256() closes by reading only what was not hashed yet
+public class HashingSource implements Resource.Source {
+
+    private static final int SKIP_BUFFER_SIZE = 8 * 1024;
+
+    private final Resource.Source source;
+    private final long size;
+    private final MessageDigest digest;
+
+    // guarded by this
+    private long hashed;
+
+    public HashingSource(final Resource.Source source, final long size) {
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
+        this.digest = HashingUtils.sha256Digest();
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return open(0, this.size);
+    }
+
+    @Override
+    public InputStream open(final long offset, final long length) throws IOException {
+        return new HashingInputStream(this.source.open(offset, length), offset);
+    }
+
+    // goes through the stream rather than the source, the bytes have to pass the digest
+    @Override
+    public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+        try (final var in = open(offset, length)) {
+            return in.transferTo(Channels.newOutputStream(target));
+        }
+    }
+
+    public synchronized String sha256() throws IOException {
+        if (this.hashed < this.size) {
+            try (final var in = this.source.open(this.hashed, this.size - this.hashed)) {
+                final var buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    this.digest.update(buffer, 0, read);
+                    this.hashed += read;
+                }
+            }
+        }
+        return HexFormat.of().formatHex(this.digest.digest());
+    }
+
+    private synchronized void update(final long position, final byte[] b, final int off, final int len) {
+        if (position <= this.hashed && position + len > this.hashed) {
+            final var skip = (int) (this.hashed - position);
+            this.digest.update(b, off + skip, len - skip);
+            this.hashed = position + len;
+        }
+    }
+
+    private class HashingInputStream extends FilterInputStream {
+
+        private long position;
+
+        private HashingInputStream(final InputStream in, final long position) {
+            super(in);
+            this.position = position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = super.read();
+            if (b != -1) {
+                update(this.position++, new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var n = super.read(b, off, len);
+            if (n > 0) {
+                update(this.position, b, off, n);
+                this.position += n;
+            }
+            return n;
+        }
+
+        // skipped bytes are read through, so a skip does not leave a gap in the hash
+        @Override
+        public long skip(final long n) throws IOException {
+            final var scratch = new byte[(int) Math.min(Math.max(n, 0), SKIP_BUFFER_SIZE)];
+            long skipped = 0;
+            while (skipped < n) {
+                final var read = read(scratch, 0, (int) Math.min(scratch.length, n - skipped));
+                if (read == -1) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -1,15 +1,64 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
 
 public final class HashingUtils {
 
-    private static final HashFunction CHECKSUM = Hashing.crc32c();
-
     private HashingUtils() {}
 
     public static String checksum(final byte[] content) {
-        return CHECKSUM.hashBytes(content).toString();
+        final var crc = new CRC32C();
+        crc.update(content, 0, content.length);
+        return toHex(crc.getValue());
+    }
+
+    // little-endian hex, the format Guava produced and media rows already store, so old and new checksums compare
+    public static String toHex(final long crc32c) {
+        return "%08x".formatted(Integer.reverseBytes((int) crc32c));
+    }
+
+    // GCS reads and writes the CRC32C big-endian, these convert at that boundary only
+    public static String toBigEndianHex(final String checksum) {
+        return reverseBytes(checksum);
+    }
+
+    public static String fromBigEndianHex(final String crc32c) {
+        return crc32c == null ? null : reverseBytes(crc32c);
+    }
+
+    private static String reverseBytes(final String hex) {
+        final var reversed = new StringBuilder(hex.length());
+        for (int i = hex.length(); i > 1; i -= 2) {
+            reversed.append(hex, i - 2, i);
+        }
+        return reversed.toString();
+    }
+
+    public static String sha256(final InputStream in) throws IOException {
+        final var digest = sha256Digest();
+        final var buffer = new byte[64 * 1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String sha256(final String value) {
+        return HexFormat.of().formatHex(sha256Digest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
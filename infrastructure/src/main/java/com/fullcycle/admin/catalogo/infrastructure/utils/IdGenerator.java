@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import java.util.Objects;
+
+// the domain creates its ids through IdUtils, which has no configuration of its own. the configured generator is
+// used while this is open and the one used before is put back when it closes, so a context does not leave its
+// choice behind for whatever runs after it
+public final class IdGenerator implements AutoCloseable {
+
+    private final IdUtils.Generator generator;
+
+    private final IdUtils.Generator previous;
+
+    private IdGenerator(final IdUtils.Generator generator, final IdUtils.Generator previous) {
+        this.generator = Objects.requireNonNull(generator);
+        this.previous = Objects.requireNonNull(previous);
+    }
+
+    public static IdGenerator install(final IdUtils.Generator aGenerator) {
+        final var previous = IdUtils.generator();
+        final var installed = new IdGenerator(aGenerator, previous);
+        IdUtils.use(aGenerator);
+        return installed;
+    }
+
+    public IdUtils.Generator generator() {
+        return this.generator;
+    }
+
+    @Override
+    public void close() {
+        IdUtils.use(this.previous);
+    }
+}
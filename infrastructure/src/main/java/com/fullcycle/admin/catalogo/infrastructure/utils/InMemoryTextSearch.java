@@ -0,0 +1,168 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// answers the terms from an NgramIndex held in memory, the database only hydrates the page through the matching ids.
+// searches never load the index: TextSearches loads it on startup and reloads it in the background to pick up writes
+// made by other nodes, while the gateway applies its own writes to it once their transaction commits.
+// an index not loaded yet, tables over maxEntries rows, terms matching over MAX_IDS rows and a disabled search are
+// left to the delegate
+public class InMemoryTextSearch<T> implements TextSearch<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryTextSearch.class);
+
+    public static final int MAX_IDS = 1000;
+
+    private final String name;
+    private final boolean enabled;
+    private final TextSearch<T> delegate;
+    private final Supplier<List<NgramIndex.Document>> loader;
+    private final LongSupplier counter;
+    private final long maxEntries;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile NgramIndex index;
+
+    // guarded by this, writes arriving while the index loads are replayed on the new one
+    private List<Consumer<NgramIndex>> pending;
+
+    public InMemoryTextSearch(
+            final String name,
+            final boolean enabled,
+            final TextSearch<T> delegate,
+            final Supplier<List<NgramIndex.Document>> loader,
+            final LongSupplier counter,
+            final long maxEntries
+    ) {
+        this.name = Objects.requireNonNull(name);
+        this.enabled = enabled;
+        this.delegate = Objects.requireNonNull(delegate);
+        this.loader = Objects.requireNonNull(loader);
+        this.counter = Objects.requireNonNull(counter);
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Specification<T> matching(final String terms) {
+        final var anIndex = this.index;
+        if (anIndex == null) {
+            return this.delegate.matching(terms);
+        }
+
+        final var ids = anIndex.search(terms);
+        if (ids.size() > MAX_IDS) {
+            return this.delegate.matching(terms);
+        }
+        return idIn(ids);
+    }
+
+    // rows are already narrowed down to the ids, the delegate only orders them
+    @Override
+    public Specification<T> byRelevance(final String terms) {
+        return this.delegate.byRelevance(terms);
+    }
+
+    @Override
+    public boolean matchesWordPrefixes() {
+        return this.delegate.matchesWordPrefixes();
+    }
+
+    public void put(final NgramIndex.Document aDocument) {
+        afterCommit(anIndex -> anIndex.put(aDocument));
+    }
+
+    public void remove(final String anId) {
+        afterCommit(anIndex -> anIndex.remove(anId));
+    }
+
+    // a failed load keeps the previous index until the next one
+    public void load() {
+        if (!this.enabled) {
+            return;
+        }
+        this.loadLock.lock();
+        try {
+            loadLocked();
+        } finally {
+            this.loadLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryTextSearch[" + this.name + "] over " + this.delegate;
+    }
+
+    private void loadLocked() {
+        synchronized (this) {
+            this.pending = new ArrayList<>();
+        }
+
+        try {
+            final var loaded = loadIndex();
+            synchronized (this) {
+                if (loaded != null) {
+                    this.pending.forEach(change -> change.accept(loaded));
+                }
+                this.index = loaded;
+            }
+        } finally {
+            synchronized (this) {
+                this.pending = null;
+            }
+        }
+    }
+
+    private NgramIndex loadIndex() {
+        final var count = this.counter.getAsLong();
+        if (count > this.maxEntries) {
+            log.info("Searching {} in the database, its {} rows are over the {} kept in memory", this.name, count, this.maxEntries);
+            return null;
+        }
+
+        final var loaded = new NgramIndex(this.delegate.matchesWordPrefixes());
+        this.loader.get().forEach(loaded::put);
+        log.debug("Loaded {} {} into memory", loaded.size(), this.name);
+        return loaded;
+    }
+
+    // searches must not match a write its transaction may still roll back, one made outside a transaction lands now
+    private void afterCommit(final Consumer<NgramIndex> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized void apply(final Consumer<NgramIndex> change) {
+        if (this.index != null) {
+            change.accept(this.index);
+        }
+        if (this.pending != null) {
+            this.pending.add(change);
+        }
+    }
+
+    private static <T> Specification<T> idIn(final Set<String> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get(KeysetCursor.ID).in(ids);
+    }
+}
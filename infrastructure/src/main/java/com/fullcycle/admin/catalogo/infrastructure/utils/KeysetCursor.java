@@ -0,0 +1,97 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+
+// position right after the last item of a page: its sort value plus its id, the id breaks ties between equal values.
+// it travels as opaque base64 and is only accepted back for the same sort it was made for
+public record KeysetCursor(String sort, String direction, String value, String id) {
+
+    public static final String ID = "id";
+
+    private static final Error INVALID_CURSOR = new Error("'cursor' is not a valid cursor");
+    private static final Error OTHER_SORT_CURSOR = new Error("'cursor' was issued for another sort order");
+    private static final Error RELEVANCE_CURSOR = new Error("'cursor' can not page by relevance");
+
+    // relevance is not a column, the search specification orders by it
+    public static Sort sortOf(final String sort, final String direction) {
+        if (TextSearch.RELEVANCE.equals(sort)) {
+            return Sort.unsorted();
+        }
+        final var aDirection = Sort.Direction.fromString(direction);
+        return Sort.by(aDirection, sort).and(Sort.by(aDirection, ID));
+    }
+
+    // items that do not carry the sort property, like projections, get no cursor and only page by offset
+    public static String after(final Object lastItem, final String sort, final String direction) {
+        final var accessor = PropertyAccessorFactory.forDirectFieldAccess(lastItem);
+        if (!accessor.isReadableProperty(sort) || !accessor.isReadableProperty(ID)) {
+            return null;
+        }
+
+        final var value = accessor.getPropertyValue(sort);
+        return new KeysetCursor(
+                sort,
+                Sort.Direction.fromString(direction).name(),
+                value == null ? null : valueOf(value),
+                String.valueOf(accessor.getPropertyValue(ID))
+        ).encode();
+    }
+
+    public static KeysetCursor decode(final String cursor, final String sort, final String direction) {
+        if (TextSearch.RELEVANCE.equals(sort)) {
+            throw DomainException.with(RELEVANCE_CURSOR);
+        }
+
+        final KeysetCursor aCursor;
+        try (final var in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            final var aSort = in.readUTF();
+            final var aDirection = in.readUTF();
+            final var value = in.readBoolean() ? in.readUTF() : null;
+            aCursor = new KeysetCursor(aSort, aDirection, value, in.readUTF());
+        } catch (IOException | IllegalArgumentException e) {
+            throw DomainException.with(INVALID_CURSOR);
+        }
+
+        if (!BinaryIdType.isId(aCursor.id())) {
+            throw DomainException.with(INVALID_CURSOR);
+        }
+
+        if (!aCursor.sort().equals(sort) || !aCursor.direction().equals(Sort.Direction.fromString(direction).name())) {
+            throw DomainException.with(OTHER_SORT_CURSOR);
+        }
+        return aCursor;
+    }
+
+    public boolean isAscending() {
+        return Sort.Direction.ASC.name().equals(direction);
+    }
+
+    public String encode() {
+        final var out = new ByteArrayOutputStream();
+        try (final var data = new DataOutputStream(out)) {
+            data.writeUTF(sort);
+            data.writeUTF(direction);
+            data.writeBoolean(value != null);
+            if (value != null) {
+                data.writeUTF(value);
+            }
+            data.writeUTF(id);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    private static String valueOf(final Object value) {
+        return value instanceof Enum<?> anEnum ? anEnum.name() : value.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+public class KeysetJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements KeysetRepository<T> {
+
+    private final EntityManager entityManager;
+
+    public KeysetJpaRepository(final JpaEntityInformation<T, ?> entityInformation, final EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<T> findAll(final Specification<T> whereClause, final Sort sort, final long offset, final int limit) {
+        return getQuery(whereClause, sort)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public <R> List<R> findAll(
+            final Specification<T> whereClause,
+            final Sort sort,
+            final long offset,
+            final int limit,
+            final Class<R> projection,
+            final String... attributes
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(projection);
+        final var root = query.from(getDomainClass());
+
+        query.select(cb.construct(projection, Arrays.stream(attributes).map(root::get).toArray(Selection<?>[]::new)));
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        // an unsorted query keeps the order the specification gave it, like the relevance of a search
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
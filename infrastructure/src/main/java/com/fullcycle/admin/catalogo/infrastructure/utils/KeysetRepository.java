@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+
+// implemented by KeysetJpaRepository, the base class of every repository
+@NoRepositoryBean
+public interface KeysetRepository<T> {
+
+    Page<T> findAll(Specification<T> whereClause, Pageable page);
+
+    // a plain offset and limit, no count query runs alongside it
+    List<T> findAll(Specification<T> whereClause, Sort sort, long offset, int limit);
+
+    // same as above selecting only the attributes, handed in order to a constructor of the projection
+    <R> List<R> findAll(
+            Specification<T> whereClause,
+            Sort sort,
+            long offset,
+            int limit,
+            Class<R> projection,
+            String... attributes
+    );
+
+    long count(Specification<T> whereClause);
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.List;
+import javax.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+// UPPER(attribute) LIKE '%terms%' over any of the attributes, it reads every row but needs no index
+public class LikeTextSearch<T> implements TextSearch<T> {
+
+    private final List<String> attributes;
+
+    public LikeTextSearch(final String... attributes) {
+        if (attributes.length == 0) {
+            throw new IllegalArgumentException("'attributes' should not be empty");
+        }
+        this.attributes = List.of(attributes);
+    }
+
+    @Override
+    public Specification<T> matching(final String terms) {
+        return (root, query, cb) -> cb.or(this.attributes.stream()
+                .map(attribute -> SpecificationUtils.<T>like(attribute, terms).toPredicate(root, query, cb))
+                .toArray(Predicate[]::new));
+    }
+
+    // no score to rank by, rows where the first attribute starts with the terms come first
+    @Override
+    public Specification<T> byRelevance(final String terms) {
+        return (root, query, cb) -> {
+            if (!TextSearch.isCount(query)) {
+                final var prefix = cb.like(cb.upper(root.get(this.attributes.get(0))), terms.toUpperCase() + "%");
+                query.orderBy(
+                        cb.asc(cb.selectCase().when(prefix, 0).otherwise(1)),
+                        cb.asc(root.get(KeysetCursor.ID))
+                );
+            }
+            return null;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "LikeTextSearch" + this.attributes;
+    }
+}
@@ -0,0 +1,156 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// trigram inverted index over a few short texts per id. a search returns the ids with a text containing the terms,
+// the same rows as UPPER(text) LIKE '%TERMS%', or with wordPrefixes the ids where every word of the terms starts a word
+// of one of the texts, the same rows as FullTextSearch. accents are folded like MySQL's default collation does.
+// the trigrams of the terms narrow the candidates down to the shortest posting list, which is then checked for real
+public class NgramIndex {
+
+    public static final int GRAM = 3;
+
+    // also the projection the index is loaded with, one constructor per number of indexed attributes
+    public record Document(String id, String name, String description) {
+
+        public Document(final String id, final String name) {
+            this(id, name, null);
+        }
+
+        private List<String> texts() {
+            final var texts = new ArrayList<String>(2);
+            if (name != null) {
+                texts.add(normalize(name));
+            }
+            if (description != null) {
+                texts.add(normalize(description));
+            }
+            return texts;
+        }
+    }
+
+    private final boolean wordPrefixes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, List<String>> documents = new HashMap<>();
+    private final Map<String, Set<String>> postings = new HashMap<>();
+
+    public NgramIndex() {
+        this(false);
+    }
+
+    public NgramIndex(final boolean wordPrefixes) {
+        this.wordPrefixes = wordPrefixes;
+    }
+
+    public void put(final Document aDocument) {
+        final var texts = aDocument.texts();
+
+        this.lock.writeLock().lock();
+        try {
+            removeLocked(aDocument.id());
+            this.documents.put(aDocument.id(), texts);
+            for (final var text : texts) {
+                for (final var gram : grams(text)) {
+                    this.postings.computeIfAbsent(gram, key -> new HashSet<>()).add(aDocument.id());
+                }
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String anId) {
+        this.lock.writeLock().lock();
+        try {
+            removeLocked(anId);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public Set<String> search(final String terms) {
+        final var term = normalize(terms);
+        final var words = this.wordPrefixes ? TextSearch.words(term) : List.of(term);
+
+        this.lock.readLock().lock();
+        try {
+            Collection<String> candidates = this.documents.keySet();
+
+            // shorter terms have no trigram to look up, they check every document
+            for (final var word : words) {
+                for (final var gram : grams(word)) {
+                    final var posting = this.postings.get(gram);
+                    if (posting == null) {
+                        return Set.of();
+                    }
+                    if (posting.size() < candidates.size()) {
+                        candidates = posting;
+                    }
+                }
+            }
+
+            return candidates.stream()
+                    .filter(id -> words.stream().allMatch(word -> this.documents.get(id).stream()
+                            .anyMatch(text -> matches(text, word))))
+                    .collect(Collectors.toUnmodifiableSet());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(final String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toUpperCase(Locale.ROOT);
+    }
+
+    private boolean matches(final String text, final String word) {
+        if (!this.wordPrefixes) {
+            return text.contains(word);
+        }
+        return text.startsWith(word) || text.contains(" " + word) || text.contains("\n" + word);
+    }
+
+    private void removeLocked(final String anId) {
+        final var texts = this.documents.remove(anId);
+        if (texts == null) {
+            return;
+        }
+        for (final var text : texts) {
+            for (final var gram : grams(text)) {
+                final var posting = this.postings.get(gram);
+                if (posting != null && posting.remove(anId) && posting.isEmpty()) {
+                    this.postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(final String text) {
+        final var grams = new HashSet<String>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
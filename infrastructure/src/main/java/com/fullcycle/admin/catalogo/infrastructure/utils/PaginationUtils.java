@@ -0,0 +1,116 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.after;
+import static org.springframework.data.jpa.domain.Specification.where;
+
+public final class PaginationUtils {
+
+    private PaginationUtils() {
+    }
+
+    // with a cursor the page seeks past it through the (sort, id) index instead of skipping page * perPage rows;
+    // without a total one extra row tells whether there is a next page and the count query never runs
+    public static <T> Pagination<T> findAll(
+            final KeysetRepository<T> repository,
+            final Specification<T> whereClause,
+            final SearchQuery aQuery
+    ) {
+        final var sort = KeysetCursor.sortOf(aQuery.sort(), aQuery.direction());
+
+        if (aQuery.hasCursor()) {
+            final var cursor = KeysetCursor.decode(aQuery.cursor(), aQuery.sort(), aQuery.direction());
+            final var found = repository.findAll(where(whereClause).and(after(cursor)), sort, 0, aQuery.perPage() + 1);
+            final var total = aQuery.withTotal() ? repository.count(where(whereClause)) : Pagination.UNKNOWN_TOTAL;
+
+            return slice(aQuery.page(), aQuery.perPage(), found, total, aQuery.sort(), aQuery.direction());
+        }
+
+        if (aQuery.withTotal()) {
+            return page(
+                    repository.findAll(where(whereClause), PageRequest.of(aQuery.page(), aQuery.perPage(), sort)),
+                    aQuery.sort(),
+                    aQuery.direction()
+            );
+        }
+
+        final var offset = (long) aQuery.page() * aQuery.perPage();
+        final var found = repository.findAll(where(whereClause), sort, offset, aQuery.perPage() + 1);
+        return slice(aQuery.page(), aQuery.perPage(), found, Pagination.UNKNOWN_TOTAL, aQuery.sort(), aQuery.direction());
+    }
+
+    // same paging as above reading the projection, which carries the attributes a cursor needs
+    public static <T, R> Pagination<R> findAll(
+            final KeysetRepository<T> repository,
+            final Specification<T> whereClause,
+            final SearchQuery aQuery,
+            final Class<R> projection,
+            final String... attributes
+    ) {
+        final var sort = KeysetCursor.sortOf(aQuery.sort(), aQuery.direction());
+
+        var where = where(whereClause);
+        var offset = (long) aQuery.page() * aQuery.perPage();
+
+        if (aQuery.hasCursor()) {
+            where = where.and(after(KeysetCursor.decode(aQuery.cursor(), aQuery.sort(), aQuery.direction())));
+            offset = 0;
+        }
+
+        final var found = repository.findAll(where, sort, offset, aQuery.perPage() + 1, projection, attributes);
+        final var total = aQuery.withTotal() ? repository.count(where(whereClause)) : Pagination.UNKNOWN_TOTAL;
+
+        return slice(aQuery.page(), aQuery.perPage(), found, total, aQuery.sort(), aQuery.direction());
+    }
+
+    // a Slice fetched one row past its size itself, only a Page carries a total
+    public static <T> Pagination<T> page(final Slice<T> pageResult, final String sort, final String direction) {
+        final var items = pageResult.getContent();
+
+        return new Pagination<>(
+                pageResult.getNumber(),
+                pageResult.getSize(),
+                pageResult instanceof Page<T> aPage ? aPage.getTotalElements() : Pagination.UNKNOWN_TOTAL,
+                items,
+                pageResult.hasNext() ? nextCursor(items, sort, direction) : null,
+                pageResult.hasNext()
+        );
+    }
+
+    // found holds up to perPage + 1 items, the extra one only says there is more
+    public static <T> Pagination<T> slice(
+            final int currentPage,
+            final int perPage,
+            final List<T> found,
+            final long total,
+            final String sort,
+            final String direction
+    ) {
+        final var hasNext = found.size() > perPage;
+        final var items = hasNext ? found.subList(0, perPage) : found;
+
+        return new Pagination<>(
+                currentPage,
+                perPage,
+                total,
+                items,
+                hasNext ? nextCursor(items, sort, direction) : null,
+                hasNext
+        );
+    }
+
+    public static String nextCursor(final List<?> items, final String sort, final String direction) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        return KeysetCursor.after(items.get(items.size() - 1), sort, direction);
+    }
+}
@@ -1,5 +1,13 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.*;
 
 public final class SpecificationUtils {
@@ -11,7 +19,83 @@ public final class SpecificationUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    // semi-join: the row has at least one row of the join entity pointing at one of the values, none matches no row
+    public static <T> Specification<T> existsIn(
+            final Class<?> joinEntity,
+            final String ownerPath,
+            final String valuePath,
+            final Collection<String> values
+    ) {
+        return (root, query, cb) -> {
+            if (values.isEmpty()) {
+                return cb.disjunction();
+            }
+            final var subquery = query.subquery(Integer.class);
+            final var join = subquery.from(joinEntity);
+            return cb.exists(subquery.select(cb.literal(1)).where(
+                    cb.equal(path(join, ownerPath), root.get(KeysetCursor.ID)),
+                    path(join, valuePath).in(values)
+            ));
+        };
+    }
+
+    // rows that come after the cursor in (sort, id) order, nulls sort first ascending and last descending like MySQL does
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(final KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            final Expression<Comparable> sort = root.get(cursor.sort());
+            final Expression<String> id = root.get(KeysetCursor.ID);
+            final var ascending = cursor.isAscending();
+            final var idAfter = ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+
+            if (cursor.value() == null) {
+                final var nullsAfter = cb.and(cb.isNull(sort), idAfter);
+                return ascending ? cb.or(nullsAfter, cb.isNotNull(sort)) : nullsAfter;
+            }
+
+            final Comparable value = parse(sort.getJavaType(), cursor.value());
+            final Predicate valueAfter = ascending ? cb.greaterThan(sort, value) : cb.lessThan(sort, value);
+            final var tieAfter = cb.and(cb.equal(sort, value), idAfter);
+            return ascending ? cb.or(valueAfter, tieAfter) : cb.or(valueAfter, tieAfter, cb.isNull(sort));
+        };
+    }
+
+    private static Path<Object> path(final Path<?> from, final String dotted) {
+        Path<Object> path = null;
+        for (final var attribute : dotted.split("\\.")) {
+            path = path == null ? from.get(attribute) : path.get(attribute);
+        }
+        return path;
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable parse(final Class<?> type, final String value) {
+        try {
+            if (type == String.class) {
+                return value;
+            }
+            if (type == Instant.class) {
+                return Instant.parse(value);
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return Boolean.valueOf(value);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == Double.class || type == double.class) {
+                return Double.valueOf(value);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<Enum>) type, value);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw DomainException.with(new Error("'cursor' is not a valid cursor"));
+        }
+        throw DomainException.with(new Error("'cursor' can not page by %s".formatted(type.getSimpleName())));
+    }
 }
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.criteria.CriteriaQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+
+import static org.springframework.data.jpa.domain.Specification.where;
+
+// turns the terms of a search into a filter: LikeTextSearch scans the rows, FullTextSearch goes through a FULLTEXT index.
+// TextSearches picks one per table at startup
+public interface TextSearch<T> {
+
+    // sort value that orders by how well a row matches the terms, best first
+    String RELEVANCE = "relevance";
+
+    Specification<T> matching(String terms);
+
+    // only orders the query, it never filters
+    Specification<T> byRelevance(String terms);
+
+    // whether words of the terms only match the start of words, rather than anywhere in the text
+    default boolean matchesWordPrefixes() {
+        return false;
+    }
+
+    default Specification<T> search(final String terms, final String sort) {
+        final var hasTerms = terms != null && !terms.isBlank();
+        if (!RELEVANCE.equals(sort)) {
+            return hasTerms ? matching(terms) : null;
+        }
+        // without terms there is nothing to rank, the id keeps the pages stable
+        return hasTerms ? where(matching(terms)).and(byRelevance(terms)) : byId();
+    }
+
+    // split on anything but letters and digits
+    static List<String> words(final String terms) {
+        return Arrays.stream(terms.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    static <T> Specification<T> byId() {
+        return (root, query, cb) -> {
+            if (!isCount(query)) {
+                query.orderBy(cb.asc(root.get(KeysetCursor.ID)));
+            }
+            return null;
+        };
+    }
+
+    // count queries go through the same specification but must stay unordered
+    static boolean isCount(final CriteriaQuery<?> query) {
+        return Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType());
+    }
+}
@@ -0,0 +1,163 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.InMemorySearchProperties;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.domain.Sort;
+
+// looks the FULLTEXT indexes up once, when the first gateway asks, which is after the migrations ran: a table gets
+// FullTextSearch when one covers exactly the searched columns and LikeTextSearch otherwise,
+// so running the migration and restarting is enough to switch over. both search the same columns, LIKE for the terms
+// anywhere in them and the index for words starting words of them.
+// only databases other than MySQL, like H2, go without looking; failing to read the indexes of MySQL is an error.
+// in-memory searches are loaded once the application is ready and reloaded every refresh interval on the refresher,
+// never on the thread of a search
+public class TextSearches implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(TextSearches.class);
+
+    private static final String MYSQL = "MySQL";
+
+    private static final String FULLTEXT_INDEXES = """
+            SELECT table_name, index_name, column_name
+              FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND index_type = 'FULLTEXT'
+             ORDER BY table_name, index_name, seq_in_index
+            """;
+
+    private final DataSource dataSource;
+
+    private final InMemorySearchProperties inMemoryProperties;
+
+    private final ScheduledExecutorService refresher;
+
+    private final List<InMemoryTextSearch<?>> inMemorySearches = new CopyOnWriteArrayList<>();
+
+    private Map<String, Set<List<String>>> fullTextIndexes;
+
+    private boolean mysql;
+
+    public TextSearches(final DataSource dataSource, final InMemorySearchProperties inMemoryProperties) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.inMemoryProperties = Objects.requireNonNull(inMemoryProperties);
+        this.refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            final var thread = new Thread(r, "text-search-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // the attributes are both the LIKE columns and, in order, the FULLTEXT column list
+    public <T> TextSearch<T> of(final String table, final String... attributes) {
+        final var columns = List.of(attributes);
+        final TextSearch<T> like = new LikeTextSearch<>(attributes);
+        final var indexed = fullTextIndexes().getOrDefault(table, Set.of()).contains(columns);
+        final TextSearch<T> search = indexed ? new FullTextSearch<>(columns, like) : like;
+
+        if (!indexed && this.mysql) {
+            log.warn("No FULLTEXT index on {} {}, searches scan the table with LIKE", table, columns);
+        }
+        log.info("Searching {} with {}", table, search);
+        return search;
+    }
+
+    // for small dictionaries: the attributes are indexed in memory, and searched in the database when it can not be
+    public <T> InMemoryTextSearch<T> inMemory(
+            final String table,
+            final KeysetRepository<T> repository,
+            final String... attributes
+    ) {
+        final var selection = new String[attributes.length + 1];
+        selection[0] = KeysetCursor.ID;
+        System.arraycopy(attributes, 0, selection, 1, attributes.length);
+
+        final var search = new InMemoryTextSearch<>(
+                table,
+                this.inMemoryProperties.isEnabled(),
+                this.<T>of(table, attributes),
+                () -> repository.findAll(null, Sort.by(KeysetCursor.ID), 0, Integer.MAX_VALUE, NgramIndex.Document.class, selection),
+                () -> repository.count(null),
+                this.inMemoryProperties.getMaxEntries()
+        );
+        this.inMemorySearches.add(search);
+        return search;
+    }
+
+    @Override
+    public void onApplicationEvent(final ApplicationReadyEvent event) {
+        refresh();
+
+        final var interval = this.inMemoryProperties.getRefreshInterval();
+        if (interval > 0) {
+            this.refresher.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // reloads every in-memory search from its table, one failing does not stop the others or the schedule
+    public void refresh() {
+        for (final var search : this.inMemorySearches) {
+            try {
+                search.load();
+            } catch (RuntimeException e) {
+                log.warn("Could not load {}, it keeps its previous index until the next refresh", search, e);
+            }
+        }
+    }
+
+    public void shutdown() {
+        this.refresher.shutdownNow();
+    }
+
+    private synchronized Map<String, Set<List<String>>> fullTextIndexes() {
+        if (this.fullTextIndexes == null) {
+            this.fullTextIndexes = findFullTextIndexes();
+        }
+        return this.fullTextIndexes;
+    }
+
+    private Map<String, Set<List<String>>> findFullTextIndexes() {
+        final var columnsByIndex = new HashMap<List<String>, List<String>>();
+
+        try (final var connection = this.dataSource.getConnection()) {
+            final var product = connection.getMetaData().getDatabaseProductName();
+            if (!MYSQL.equalsIgnoreCase(product)) {
+                log.info("{} has no FULLTEXT indexes, searches use LIKE", product);
+                return Map.of();
+            }
+            this.mysql = true;
+
+            try (final var statement = connection.prepareStatement(FULLTEXT_INDEXES);
+                 final var rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    columnsByIndex
+                            .computeIfAbsent(List.of(rs.getString(1), rs.getString(2)), key -> new ArrayList<>())
+                            .add(rs.getString(3).toLowerCase());
+                }
+            }
+        } catch (SQLException e) {
+            throw InternalErrorException.with("Could not read the FULLTEXT indexes", e);
+        }
+
+        final var indexes = new HashMap<String, Set<List<String>>>();
+        columnsByIndex.forEach((tableAndIndex, columns) -> indexes
+                .computeIfAbsent(tableAndIndex.get(0).toLowerCase(), key -> new HashSet<>())
+                .add(List.copyOf(columns)));
+        return indexes;
+    }
+}
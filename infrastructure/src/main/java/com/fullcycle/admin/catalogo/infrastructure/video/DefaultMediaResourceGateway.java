@@ -1,72 +1,356 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
+import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadSession;
 import com.fullcycle.admin.catalogo.domain.video.Resource;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.StorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingSource;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
 import org.springframework.stereotype.Component;
 
+// media bytes live once under blobs/{sha256}; each video only keeps a small pointer to its blob and
+// a marker under refs/{sha256}/ that counts as one reference, the blob goes away with its last marker
 @Component
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
-    private final String filenamePattern;
-    private final String locationPattern;
+    static final String BLOBS_FOLDER = "blobs/";
+    static final String REFS_FOLDER = "refs/";
+    static final String POINTER_CONTENT_TYPE = "application/x-blob-pointer";
+    static final String REFERENCE_CONTENT_TYPE = "application/x-blob-reference";
+
+    // clients upload under staging/ and completing the session moves the object to blobs/, so abandoned sessions
+    // can be expired by a bucket lifecycle rule on staging/ alone; nothing under blobs/ may ever be expired that way
+    static final String STAGING_FOLDER = "staging/";
+
+    // blobs uploaded by clients are keyed by their session instead of their hash, nothing reads them to hash them
+    static final String UPLOADS_PREFIX = "upload-";
+
+    // content stored through this node waits here only until its hash is known
+    static final String STORES_PREFIX = "store-";
+
+    private static final Pattern UPLOAD_ID = Pattern.compile("[0-9a-f]{32}");
+
+    private static final byte[] EMPTY = new byte[0];
+
+    static final Set<VideoMediaType> IMAGE_TYPES =
+            EnumSet.of(VideoMediaType.BANNER, VideoMediaType.THUMBNAIL, VideoMediaType.THUMBNAIL_HALF);
+
+    private final MediaPaths paths;
     private final StorageService storageService;
+    private final ImageResourceCache imageCache;
+    private final Duration downloadUrlTtl;
+    private final Duration uploadUrlTtl;
 
-    public DefaultMediaResourceGateway(final StorageProperties props, final StorageService storageService) {
-        this.filenamePattern = props.getFilenamePattern();
-        this.locationPattern = props.getLocationPattern();
+    public DefaultMediaResourceGateway(
+            final StorageProperties props,
+            final StorageService storageService,
+            final ImageResourceCache imageCache
+    ) {
+        this.paths = new MediaPaths(props.getLocationPattern(), props.getFilenamePattern());
         this.storageService = storageService;
+        this.imageCache = imageCache;
+        this.downloadUrlTtl = Duration.ofSeconds(Math.max(props.getDownloadUrlTtlSeconds(), 0));
+        this.uploadUrlTtl = Duration.ofSeconds(Math.max(props.getUploadUrlTtlSeconds(), 0));
     }
 
     @Override
     public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
-        final var filepath = filepath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filepath, aResource);
-        return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filepath);
+        final var stored = store(filepath(anId, videoResource.type()), aResource);
+        return AudioVideoMedia.with(stored.checksum(), aResource.name(), stored.location());
     }
 
     @Override
     public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
-        final var filepath = filepath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filepath, aResource);
-        return ImageMedia.with(aResource.checksum(), aResource.name(), filepath);
+        final var filepath = filepath(anId, videoResource.type());
+        final var stored = store(filepath, aResource);
+        return ImageMedia.with(stored.checksum(), aResource.name(), stored.location());
     }
 
+    @Override
+    public Optional<MediaUploadSession> createUploadSession(
+            final VideoID anId,
+            final VideoMediaType type,
+            final String contentType
+    ) {
+        if (this.uploadUrlTtl.isZero()) {
+            return Optional.empty();
+        }
+
+        final var anUploadId = IdUtils.uuid();
+        final var location = STAGING_FOLDER.concat(uploadKey(anId, type, anUploadId));
+        final var expiresAt = InstantUtils.now().plus(this.uploadUrlTtl);
+
+        return this.storageService.signedUploadUrl(location, contentType, this.uploadUrlTtl)
+                .map(it -> MediaUploadSession.with(anUploadId, it.url(), it.method(), it.headers(), expiresAt));
+    }
+
+    @Override
+    public Optional<AudioVideoMedia> completeAudioVideoUpload(
+            final VideoID anId,
+            final VideoMediaType type,
+            final String anUploadId,
+            final String name
+    ) {
+        return complete(anId, type, anUploadId, name)
+                .map(it -> AudioVideoMedia.with(it.checksum(), it.name(), it.location()));
+    }
+
+    @Override
+    public Optional<ImageMedia> completeImageUpload(
+            final VideoID anId,
+            final VideoMediaType type,
+            final String anUploadId,
+            final String name
+    ) {
+        return complete(anId, type, anUploadId, name).map(it -> ImageMedia.with(it.checksum(), it.name(), it.location()));
+    }
+
+    // images are cached by the blob their pointer names, a blob never changes once written, so a replacement on
+    // any node points to another key and nothing has to be invalidated; only the small pointer is read per request
     @Override
     public Optional<Resource> getResource(final VideoID anId, final VideoMediaType type) {
-        return this.storageService.get(filepath(anId, type));
+        final var filepath = filepath(anId, type);
+
+        if (IMAGE_TYPES.contains(type)) {
+            return this.storageService.get(filepath).flatMap(this::resolveCached);
+        }
+        return load(filepath);
     }
 
+    // images stay on the cached proxy path, they are small and their bytes usually come from the cache
     @Override
-    public void clearResources(final VideoID anId) {
-        final var ids = this.storageService.list(folder(anId));
-        this.storageService.deleteAll(ids);
+    public Optional<String> getDownloadUrl(final VideoID anId, final VideoMediaType type) {
+        if (this.downloadUrlTtl.isZero() || IMAGE_TYPES.contains(type) || !this.storageService.canSignDownloadUrls()) {
+            return Optional.empty();
+        }
+
+        final var filepath = filepath(anId, type);
+        return this.storageService.get(filepath)
+                .flatMap(it -> {
+                    final var location = isPointer(it) ? BLOBS_FOLDER.concat(hashOf(it)) : filepath;
+                    return this.storageService.signedUrl(location, it.name(), this.downloadUrlTtl);
+                });
     }
 
-    private String filename(final VideoMediaType aType) {
-        return filenamePattern.replace("{type}", aType.name());
+    // pointers only live at the known media paths, everything else under the folder is removed page by page
+    @Override
+    public void clearResources(final VideoID anId) {
+        final var folder = folder(anId).concat("/");
+        final var references = new ArrayList<String>();
+        final var hashes = new HashSet<String>();
+
+        for (final var aType : VideoMediaType.values()) {
+            final var filepath = filepath(anId, aType);
+            this.storageService.get(filepath)
+                    .filter(DefaultMediaResourceGateway::isPointer)
+                    .map(DefaultMediaResourceGateway::hashOf)
+                    .ifPresent(hash -> {
+                        hashes.add(hash);
+                        references.add(reference(hash, filepath));
+                    });
+        }
+
+        this.storageService.deleteByPrefix(folder);
+        this.storageService.deleteAll(references);
+        hashes.forEach(this::deleteIfUnreferenced);
     }
 
     private String folder(final VideoID anId) {
-        return locationPattern.replace("{videoId}", anId.getValue());
+        return this.paths.folder(anId);
     }
 
     private String filepath(final VideoID anId, final VideoMediaType aType) {
-        return folder(anId)
-                .concat("/")
-                .concat(filename(aType));
+        return this.paths.filepath(anId, aType);
+    }
+
+    // the content is read once: it streams to a staging key while it is hashed, and only then is its blob known.
+    // the blob is touched after the reference is written. a delete that listed no references before that
+    // holds an older version of the blob, so its conditional delete fails; if a delete won first, touch
+    // finds nothing and the staged content is copied there again on the storage side
+    private StoredBlob store(final String filepath, final Resource aResource) {
+        final var staged = STAGING_FOLDER.concat(STORES_PREFIX).concat(IdUtils.randomUuid());
+        final var hashing = new HashingSource(aResource.source(), aResource.size());
+
+        try {
+            final var stagedChecksum = this.storageService.store(staged, withSource(aResource, hashing));
+            final var hash = hashOf(hashing, aResource);
+            final var location = BLOBS_FOLDER.concat(hash);
+            final var previous = pointedHash(filepath);
+
+            addReference(hash, filepath);
+
+            final var checksum = Optional.of(location)
+                    .filter(this.storageService::touch)
+                    .flatMap(this.storageService::get)
+                    .map(Resource::checksum)
+                    .orElseGet(() -> {
+                        this.storageService.copy(staged, location);
+                        return stagedChecksum;
+                    });
+
+            point(filepath, hash, aResource.name(), previous);
+            return new StoredBlob(location, checksum, aResource.name());
+        } finally {
+            this.storageService.deleteAll(List.of(staged));
+        }
+    }
+
+    // only the object metadata is fetched, the client already uploaded the bytes under the session key. the copy
+    // to blobs/ happens on the storage side, and a retried completion finds the object already moved
+    private Optional<StoredBlob> complete(
+            final VideoID anId,
+            final VideoMediaType type,
+            final String anUploadId,
+            final String name
+    ) {
+        if (anUploadId == null || !UPLOAD_ID.matcher(anUploadId).matches()) {
+            return Optional.empty();
+        }
+
+        final var filepath = filepath(anId, type);
+        final var key = uploadKey(anId, type, anUploadId);
+        final var staged = STAGING_FOLDER.concat(key);
+        final var location = BLOBS_FOLDER.concat(key);
+
+        final var uploaded = this.storageService.get(staged)
+                .map(it -> {
+                    this.storageService.copy(staged, location);
+                    return it;
+                })
+                .or(() -> this.storageService.get(location));
+
+        return uploaded.map(it -> {
+            final var aName = name != null && !name.isBlank() ? name : it.name();
+            final var previous = pointedHash(filepath);
+
+            addReference(key, filepath);
+            point(filepath, key, aName, previous);
+            this.storageService.deleteAll(List.of(staged));
+            return new StoredBlob(location, it.checksum(), aName);
+        });
+    }
+
+    private Optional<String> pointedHash(final String filepath) {
+        return this.storageService.get(filepath)
+                .filter(DefaultMediaResourceGateway::isPointer)
+                .map(DefaultMediaResourceGateway::hashOf);
+    }
+
+    private void addReference(final String hash, final String filepath) {
+        this.storageService.store(reference(hash, filepath), referenceMarker(filepath));
+    }
+
+    private void point(final String filepath, final String hash, final String name, final Optional<String> previous) {
+        final var pointer = BLOBS_FOLDER.concat(hash).getBytes(StandardCharsets.UTF_8);
+        this.storageService.store(
+                filepath,
+                Resource.with(pointer, HashingUtils.checksum(pointer), POINTER_CONTENT_TYPE, name)
+        );
+
+        previous.filter(it -> !it.equals(hash)).ifPresent(it -> {
+            this.storageService.deleteAll(List.of(reference(it, filepath)));
+            deleteIfUnreferenced(it);
+        });
+    }
+
+    private Optional<Resource> load(final String filepath) {
+        return this.storageService.get(filepath)
+                .flatMap(this::resolve);
+    }
+
+    private Optional<Resource> resolve(final Resource aResource) {
+        if (!isPointer(aResource)) {
+            return Optional.of(aResource);
+        }
+
+        return this.storageService.get(BLOBS_FOLDER.concat(hashOf(aResource)))
+                .map(blob -> named(blob, aResource.name()));
+    }
+
+    private Optional<Resource> resolveCached(final Resource aResource) {
+        if (!isPointer(aResource)) {
+            return Optional.of(aResource);
+        }
+
+        final var location = BLOBS_FOLDER.concat(hashOf(aResource));
+        return this.imageCache.get(location, () -> this.storageService.get(location))
+                .map(blob -> named(blob, aResource.name()));
+    }
+
+    // the version is read before the references are listed, a store referencing the blob after that touches it
+    private void deleteIfUnreferenced(final String hash) {
+        final var location = BLOBS_FOLDER.concat(hash);
+        this.storageService.version(location).ifPresent(version -> {
+            if (this.storageService.list(REFS_FOLDER.concat(hash).concat("/")).isEmpty()
+                    && this.storageService.deleteIfVersion(location, version)) {
+                this.imageCache.invalidate(location);
+            }
+        });
+    }
+
+    private static String hashOf(final HashingSource hashing, final Resource aResource) {
+        try {
+            return hashing.sha256();
+        } catch (IOException e) {
+            throw InternalErrorException.with("Failed to hash content of resource %s".formatted(aResource.name()), e);
+        }
+    }
+
+    private static Resource named(final Resource blob, final String name) {
+        return blob.hasChecksum()
+                ? Resource.with(blob.source(), blob.size(), blob.checksum(), blob.contentType(), name)
+                : Resource.with(blob.source(), blob.size(), blob.contentType(), name);
+    }
+
+    // a known checksum goes along, so the storage still verifies what it received
+    private static Resource withSource(final Resource aResource, final Resource.Source source) {
+        return aResource.hasChecksum()
+                ? Resource.with(source, aResource.size(), aResource.checksum(), aResource.contentType(), aResource.name())
+                : Resource.with(source, aResource.size(), aResource.contentType(), aResource.name());
+    }
+
+    private static String uploadKey(final VideoID anId, final VideoMediaType type, final String anUploadId) {
+        return UPLOADS_PREFIX.concat("%s-%s-%s".formatted(anId.getValue(), type.name().toLowerCase(), anUploadId));
+    }
+
+    static Resource referenceMarker(final String filepath) {
+        return Resource.with(EMPTY, HashingUtils.checksum(EMPTY), REFERENCE_CONTENT_TYPE, filepath);
+    }
+
+    static String reference(final String hash, final String filepath) {
+        return REFS_FOLDER.concat(hash).concat("/").concat(filepath);
+    }
+
+    static boolean isPointer(final Resource aResource) {
+        return POINTER_CONTENT_TYPE.equals(aResource.contentType());
+    }
+
+    static String hashOf(final Resource pointer) {
+        final var location = new String(pointer.content(), StandardCharsets.UTF_8);
+        return location.substring(BLOBS_FOLDER.length());
     }
 
-    private void store(final String filepath, final Resource aResource) {
-        this.storageService.store(filepath, aResource);
+    private record StoredBlob(String location, String checksum, String name) {
     }
-}
\ No newline at end of file
+}
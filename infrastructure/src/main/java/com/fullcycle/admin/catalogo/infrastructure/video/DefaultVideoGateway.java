@@ -5,49 +5,81 @@ import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetCursor;
+import com.fullcycle.admin.catalogo.infrastructure.utils.PaginationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextSearches;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoCastMemberJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoCategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoGenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.repository.VideoRepository;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import java.util.Set;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 
-import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
-import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.nullIfEmpty;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.after;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.existsIn;
+import static org.springframework.data.jpa.domain.Specification.where;
 
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
+    private static final String[] PREVIEW_ATTRIBUTES = {"id", "title", "description", "createdAt", "updatedAt"};
+
     private final EventService eventService;
 
     private final VideoRepository videoRepository;
 
+    private final TextSearch<VideoJpaEntity> textSearch;
+
     public DefaultVideoGateway(
             @VideoCreatedQueue final EventService eventService,
-            final VideoRepository videoRepository
+            final VideoRepository videoRepository,
+            final TextSearches textSearches
     ) {
         this.eventService = Objects.requireNonNull(eventService);
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.textSearch = textSearches.of("videos", "title", "description");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findMediaChecksum(final VideoID anId, final VideoMediaType aType) {
+        final var id = anId.getValue();
+        if (!BinaryIdType.isId(id)) {
+            return Optional.empty();
+        }
+        return switch (aType) {
+            case VIDEO -> this.videoRepository.findVideoChecksumById(id);
+            case TRAILER -> this.videoRepository.findTrailerChecksumById(id);
+            case BANNER -> this.videoRepository.findBannerChecksumById(id);
+            case THUMBNAIL -> this.videoRepository.findThumbnailChecksumById(id);
+            case THUMBNAIL_HALF -> this.videoRepository.findThumbnailHalfChecksumById(id);
+        };
     }
 
     @Override
     @Transactional
     public Video create(final Video aVideo) {
-        return save(aVideo);
+        return save(VideoJpaEntity.from(aVideo), aVideo);
     }
 
     @Override
     public void deleteById(final VideoID anId) {
         final var aVideoId = anId.getValue();
-        if (this.videoRepository.existsById(aVideoId)) {
+        if (BinaryIdType.isId(aVideoId) && this.videoRepository.existsById(aVideoId)) {
             this.videoRepository.deleteById(aVideoId);
         }
     }
@@ -55,42 +87,84 @@ public class DefaultVideoGateway implements VideoGateway {
     @Override
     @Transactional(readOnly = true)
     public Optional<Video> findById(final VideoID anId) {
-        return this.videoRepository.findById(anId.getValue())
-                .map(VideoJpaEntity::toAggregate);
+        // two selects of plain values instead of the entity graph: the media joins and the three association tables
+        final var id = anId.getValue();
+        if (!BinaryIdType.isId(id)) {
+            return Optional.empty();
+        }
+        return this.videoRepository.findDetailsById(id)
+                .map(details -> details.toAggregate(this.videoRepository.findReferencesById(BinaryIdType.bytesOf(id))));
     }
 
     @Override
     @Transactional
     public Video update(final Video aVideo) {
-        return save(aVideo);
+        // the stored video is changed in place, so only the association rows that differ are deleted or inserted
+        final var anEntity = this.videoRepository.findById(aVideo.getId().getValue())
+                .map(current -> current.update(aVideo))
+                .orElseGet(() -> VideoJpaEntity.from(aVideo));
+        return save(anEntity, aVideo);
     }
 
+    // filters are EXISTS semi-joins added only for the ids that were asked for, so rows never multiply
+    // by the associations and no distinct is needed; a page is a plain offset or a seek past the cursor
     @Override
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var sort = KeysetCursor.sortOf(aQuery.sort(), aQuery.direction());
+        final var filters = previewFilters(aQuery);
 
-        final var actualPage = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(aQuery.terms())),
-                nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
-                page
-        );
+        var where = filters;
+        var offset = (long) aQuery.page() * aQuery.perPage();
 
-        return new Pagination<>(
-                actualPage.getNumber(),
-                actualPage.getSize(),
-                actualPage.getTotalElements(),
-                actualPage.toList()
+        if (aQuery.hasCursor()) {
+            where = filters.and(after(KeysetCursor.decode(aQuery.cursor(), aQuery.sort(), aQuery.direction())));
+            offset = 0;
+        }
+
+        final var found = this.videoRepository.findAll(
+                where,
+                sort,
+                offset,
+                aQuery.perPage() + 1,
+                VideoPreview.class,
+                PREVIEW_ATTRIBUTES
         );
+        final var total = aQuery.withTotal() ? this.videoRepository.count(filters) : Pagination.UNKNOWN_TOTAL;
+
+        return PaginationUtils.slice(aQuery.page(), aQuery.perPage(), found, total, aQuery.sort(), aQuery.direction());
+    }
+
+    private Specification<VideoJpaEntity> previewFilters(final VideoSearchQuery aQuery) {
+        Specification<VideoJpaEntity> filters = where(this.textSearch.search(aQuery.terms(), aQuery.sort()));
+
+        if (aQuery.castMembers() != null && !aQuery.castMembers().isEmpty()) {
+            filters = filters.and(existsIn(
+                    VideoCastMemberJpaEntity.class, "id.videoId", "id.castMemberId", idsOf(aQuery.castMembers())
+            ));
+        }
+        if (aQuery.categories() != null && !aQuery.categories().isEmpty()) {
+            filters = filters.and(existsIn(
+                    VideoCategoryJpaEntity.class, "id.videoId", "id.categoryId", idsOf(aQuery.categories())
+            ));
+        }
+        if (aQuery.genres() != null && !aQuery.genres().isEmpty()) {
+            filters = filters.and(existsIn(
+                    VideoGenreJpaEntity.class, "id.videoId", "id.genreId", idsOf(aQuery.genres())
+            ));
+        }
+        return filters;
+    }
+
+    // ids that can not be stored are dropped, a filter left with none matches no video
+    private static List<String> idsOf(final Set<? extends Identifier> ids) {
+        return ids.stream()
+                .map(Identifier::getValue)
+                .filter(BinaryIdType::isId)
+                .toList();
     }
 
-    private Video save(final Video aVideo) {
-        final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo))
+    private Video save(final VideoJpaEntity anEntity, final Video aVideo) {
+        final var result = this.videoRepository.save(anEntity)
                 .toAggregate();
 
         aVideo.publishDomainEvents(this.eventService::send);
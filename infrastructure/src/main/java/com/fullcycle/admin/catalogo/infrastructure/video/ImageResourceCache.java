@@ -0,0 +1,278 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// content is kept in direct buffers, so cached images do not add to the heap the GC has to walk.
+// maxBytes bounds the entries the cache holds: an entry is only admitted once the least recently used ones
+// made room for it. evicted buffers are not freed by hand, they go with the last reader that still holds them
+// once the GC collects it, and -XX:MaxDirectMemorySize bounds those: reaching it makes the JVM collect before
+// allocating, and an image that still does not fit is served without being cached
+public class ImageResourceCache {
+
+    private static final Cleaner BUFFERS = Cleaner.create();
+
+    private final long maxBytes;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hits;
+
+    private final LongAdder misses;
+
+    private final AtomicLong allocatedBytes;
+
+    private long usedBytes;
+
+    private long reservedBytes;
+
+    private long generation;
+
+    public ImageResourceCache(final long maxBytes) {
+        this.maxBytes = Math.max(maxBytes, 0);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.allocatedBytes = new AtomicLong();
+    }
+
+    public Optional<Resource> get(final String key, final Supplier<Optional<Resource>> loader) {
+        final long loadedAt;
+
+        synchronized (this) {
+            final var entry = this.entries.get(key);
+            if (entry != null) {
+                this.hits.increment();
+                return Optional.of(entry.toResource());
+            }
+            this.misses.increment();
+            loadedAt = this.generation;
+        }
+
+        final var loaded = loader.get();
+        if (loaded.isEmpty() || !reserve(loaded.get().size())) {
+            return loaded;
+        }
+
+        final Entry entry;
+        try {
+            entry = Entry.of(loaded.get(), this.allocatedBytes);
+        } catch (OutOfMemoryError e) {
+            // the direct memory is taken by buffers readers still hold, the image is served from the storage
+            unreserve(loaded.get().size());
+            return loaded;
+        } catch (RuntimeException e) {
+            unreserve(loaded.get().size());
+            throw e;
+        }
+        put(key, entry, loadedAt);
+        return Optional.of(entry.toResource());
+    }
+
+    public synchronized void invalidate(final String key) {
+        this.generation++;
+        remove(key);
+    }
+
+    public synchronized void invalidateAll(final String prefix) {
+        this.generation++;
+        this.entries.keySet().stream()
+                .filter(it -> it.startsWith(prefix))
+                .toList()
+                .forEach(this::remove);
+    }
+
+    public synchronized void clear() {
+        this.generation++;
+        this.entries.clear();
+        this.usedBytes = 0;
+    }
+
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    public synchronized long usedBytes() {
+        return this.usedBytes;
+    }
+
+    // live entries plus evicted ones the GC has not collected yet
+    public long allocatedBytes() {
+        return this.allocatedBytes.get();
+    }
+
+    public long maxBytes() {
+        return this.maxBytes;
+    }
+
+    // evicts least recently used entries until the new one fits next to the live ones and those still loading
+    private synchronized boolean reserve(final long size) {
+        if (size > this.maxBytes) {
+            return false;
+        }
+
+        final var eldest = this.entries.values().iterator();
+        while (this.usedBytes + this.reservedBytes + size > this.maxBytes && eldest.hasNext()) {
+            final var evicted = eldest.next();
+            eldest.remove();
+            this.usedBytes -= evicted.size();
+        }
+        if (this.usedBytes + this.reservedBytes + size > this.maxBytes) {
+            return false;
+        }
+        this.reservedBytes += size;
+        return true;
+    }
+
+    private synchronized void unreserve(final long size) {
+        this.reservedBytes -= size;
+    }
+
+    // an invalidation that happened while loading means the loaded content may already be stale
+    private synchronized void put(final String key, final Entry entry, final long loadedAt) {
+        this.reservedBytes -= entry.size();
+        if (loadedAt != this.generation) {
+            return;
+        }
+
+        remove(key);
+        this.entries.put(key, entry);
+        this.usedBytes += entry.size();
+    }
+
+    private void remove(final String key) {
+        final var removed = this.entries.remove(key);
+        if (removed != null) {
+            this.usedBytes -= removed.size();
+        }
+    }
+
+    private record Entry(ByteBuffer content, String checksum, String contentType, String name) {
+
+        // the bytes go from the storage straight into the direct buffer, they are never staged in a heap array.
+        // the buffer counts as allocated until the GC collects it with its last reader
+        private static Entry of(final Resource aResource, final AtomicLong allocatedBytes) {
+            final var size = (int) aResource.size();
+            final var content = ByteBuffer.allocateDirect(size);
+            allocatedBytes.addAndGet(size);
+            BUFFERS.register(content, () -> allocatedBytes.addAndGet(-size));
+
+            aResource.transferTo(0, size, new BufferChannel(content));
+            return new Entry(content.flip(), aResource.checksum(), aResource.contentType(), aResource.name());
+        }
+
+        private long size() {
+            return this.content.capacity();
+        }
+
+        private Resource toResource() {
+            final var source = new EntrySource(this.content);
+            return this.checksum != null
+                    ? Resource.with(source, size(), this.checksum, this.contentType, this.name)
+                    : Resource.with(source, size(), this.contentType, this.name);
+        }
+    }
+
+    // every read works on its own view of the buffer, which keeps the buffer alive after its entry is evicted
+    private record EntrySource(ByteBuffer content) implements Resource.Source {
+
+        @Override
+        public InputStream open() {
+            return new BufferInputStream(this.content.duplicate());
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            return new BufferInputStream(slice(offset, length));
+        }
+
+        @Override
+        public long transferTo(final long offset, final long length, final WritableByteChannel target)
+                throws IOException {
+            final var slice = slice(offset, length);
+            while (slice.hasRemaining()) {
+                target.write(slice);
+            }
+            return length;
+        }
+
+        private ByteBuffer slice(final long offset, final long length) {
+            return this.content.duplicate().position((int) offset).limit((int) (offset + length));
+        }
+    }
+
+    private static class BufferInputStream extends InputStream {
+
+        private ByteBuffer buffer;
+
+        private BufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var content = open();
+            return content.hasRemaining() ? content.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var content = open();
+            if (!content.hasRemaining()) {
+                return -1;
+            }
+            final var n = Math.min(len, content.remaining());
+            content.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return open().remaining();
+        }
+
+        @Override
+        public void close() {
+            this.buffer = null;
+        }
+
+        private ByteBuffer open() throws IOException {
+            if (this.buffer == null) {
+                throw new IOException("Stream closed");
+            }
+            return this.buffer;
+        }
+    }
+
+    private record BufferChannel(ByteBuffer buffer) implements WritableByteChannel {
+
+        @Override
+        public int write(final ByteBuffer src) {
+            final var n = src.remaining();
+            this.buffer.put(src);
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
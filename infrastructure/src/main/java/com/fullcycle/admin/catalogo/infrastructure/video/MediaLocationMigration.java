@@ -0,0 +1,191 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.repository.VideoRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+
+// moves the media of every video from the keys of an old location pattern to the current one, a batch of
+// video ids at a time; blobs are keyed by their hash and stay where they are, only pointers, their reference
+// markers and legacy objects move, legacy objects also get their file_path rows rewritten. whatever else sits
+// under the old folder, like the renditions of the encoder, keeps its path below the new one and encoded_path
+// rows pointing there are rewritten too.
+// every step is safe to repeat. a run holds its claim as a lease renewed after every batch, one that stops halfway
+// stops renewing it and the next node to start once the lease went stale takes it over from the last batch done
+public class MediaLocationMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaLocationMigration.class);
+
+    private final String fromPattern;
+    private final String toPattern;
+    private final MediaPaths from;
+    private final MediaPaths to;
+    private final StorageService storageService;
+    private final VideoRepository videoRepository;
+    private final int batchSize;
+    private final Duration lease;
+    private final String owner;
+
+    public MediaLocationMigration(
+            final String fromLocationPattern,
+            final String toLocationPattern,
+            final String filenamePattern,
+            final StorageService storageService,
+            final VideoRepository videoRepository,
+            final int batchSize,
+            final Duration lease
+    ) {
+        this.fromPattern = Objects.requireNonNull(fromLocationPattern);
+        this.toPattern = Objects.requireNonNull(toLocationPattern);
+        this.from = new MediaPaths(fromLocationPattern, filenamePattern);
+        this.to = new MediaPaths(toLocationPattern, filenamePattern);
+        this.storageService = Objects.requireNonNull(storageService);
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.batchSize = Math.max(batchSize, 1);
+        this.lease = Objects.requireNonNull(lease);
+        this.owner = IdUtils.randomUuid();
+    }
+
+    // returns how many media objects were moved. the migration is claimed in the database first, so however many
+    // nodes start with it configured only one of them runs it at a time
+    public long migrate() {
+        if (!claim()) {
+            return 0;
+        }
+
+        var after = this.videoRepository.findMediaLocationMigrationProgress(this.fromPattern, this.toPattern)
+                .orElse(null);
+        var videos = 0L;
+        var moved = 0L;
+
+        if (after != null) {
+            log.info("Media location migration resumes after video {}", after);
+        }
+
+        while (true) {
+            final var page = PageRequest.of(0, this.batchSize);
+            final List<String> ids = after == null
+                    ? this.videoRepository.findFirstIds(page)
+                    : this.videoRepository.findIdsAfter(after, page);
+            if (ids.isEmpty()) {
+                this.videoRepository.finishMediaLocationMigration(
+                        this.fromPattern, this.toPattern, this.owner, InstantUtils.now()
+                );
+                log.info("Media location migration finished, moved {} objects of {} videos", moved, videos);
+                return moved;
+            }
+
+            for (final var id : ids) {
+                moved += migrate(VideoID.from(id));
+            }
+
+            videos += ids.size();
+            after = ids.get(ids.size() - 1);
+
+            final var renewed = this.videoRepository.renewMediaLocationMigration(
+                    this.fromPattern, this.toPattern, this.owner, after, InstantUtils.now()
+            );
+            if (renewed == 0) {
+                log.warn("Media location migration lease was taken over by another node after video {}, stopping", after);
+                return moved;
+            }
+            log.info("Media location migration went through {} videos, up to {}", videos, after);
+        }
+    }
+
+    // a finished claim or one a live node keeps renewing is skipped, a stale unfinished one is taken over
+    private boolean claim() {
+        final var now = InstantUtils.now();
+        try {
+            this.videoRepository.claimMediaLocationMigration(this.fromPattern, this.toPattern, this.owner, now);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            if (this.videoRepository.takeOverMediaLocationMigration(
+                    this.fromPattern, this.toPattern, this.owner, now, now.minus(this.lease)) > 0) {
+                log.info("Media location migration from {} to {} was left unfinished, taking it over", this.fromPattern, this.toPattern);
+                return true;
+            }
+            log.info(
+                    "Media location migration from {} to {} is finished or running on another node",
+                    this.fromPattern,
+                    this.toPattern
+            );
+            return false;
+        }
+    }
+
+    private int migrate(final VideoID anId) {
+        var moved = 0;
+
+        for (final var aType : VideoMediaType.values()) {
+            final var oldPath = this.from.filepath(anId, aType);
+            final var newPath = this.to.filepath(anId, aType);
+
+            if (oldPath.equals(newPath)) {
+                continue;
+            }
+
+            final var current = this.storageService.get(oldPath);
+            if (current.isEmpty()) {
+                continue;
+            }
+
+            this.storageService.copy(oldPath, newPath);
+
+            if (DefaultMediaResourceGateway.isPointer(current.get())) {
+                final var hash = DefaultMediaResourceGateway.hashOf(current.get());
+                this.storageService.store(
+                        DefaultMediaResourceGateway.reference(hash, newPath),
+                        DefaultMediaResourceGateway.referenceMarker(newPath)
+                );
+                this.storageService.deleteAll(List.of(DefaultMediaResourceGateway.reference(hash, oldPath)));
+            } else if (DefaultMediaResourceGateway.IMAGE_TYPES.contains(aType)) {
+                this.videoRepository.updateImageMediaLocation(oldPath, newPath);
+            } else {
+                this.videoRepository.updateAudioVideoMediaLocation(oldPath, newPath);
+            }
+
+            this.storageService.deleteAll(List.of(oldPath));
+            moved++;
+        }
+
+        return moved + migrateRenditions(anId);
+    }
+
+    // runs after the media keys moved, so everything still listed under the old folder belongs to the renditions
+    private int migrateRenditions(final VideoID anId) {
+        final var oldFolder = this.from.folder(anId).concat("/");
+        final var newFolder = this.to.folder(anId).concat("/");
+
+        if (oldFolder.equals(newFolder)) {
+            return 0;
+        }
+
+        final var renditions = this.storageService.list(oldFolder).stream()
+                .filter(it -> !it.startsWith(newFolder))
+                .toList();
+
+        renditions.forEach(it -> this.storageService.copy(it, newFolder.concat(it.substring(oldFolder.length()))));
+
+        for (final var encodedPath : this.videoRepository.findEncodedLocationsById(anId.getValue())) {
+            if (encodedPath != null && encodedPath.startsWith(oldFolder)) {
+                this.videoRepository.updateAudioVideoEncodedLocation(
+                        encodedPath,
+                        newFolder.concat(encodedPath.substring(oldFolder.length()))
+                );
+            }
+        }
+
+        this.storageService.deleteAll(renditions);
+        return renditions.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import java.util.Objects;
+
+// {hash} is a short prefix of the sha256 of the video id, it spreads consecutive videos over the key space
+// instead of piling them up under the same range of the bucket
+final class MediaPaths {
+
+    static final int HASH_PREFIX_LENGTH = 4;
+
+    private final String locationPattern;
+    private final String filenamePattern;
+
+    MediaPaths(final String locationPattern, final String filenamePattern) {
+        this.locationPattern = Objects.requireNonNull(locationPattern);
+        this.filenamePattern = Objects.requireNonNull(filenamePattern);
+    }
+
+    String folder(final VideoID anId) {
+        final var folder = locationPattern.replace("{videoId}", anId.getValue());
+        return folder.contains("{hash}") ? folder.replace("{hash}", hashOf(anId)) : folder;
+    }
+
+    String filepath(final VideoID anId, final VideoMediaType aType) {
+        return folder(anId)
+                .concat("/")
+                .concat(filename(aType));
+    }
+
+    private String filename(final VideoMediaType aType) {
+        return filenamePattern.replace("{type}", aType.name());
+    }
+
+    static String hashOf(final VideoID anId) {
+        return HashingUtils.sha256(anId.getValue()).substring(0, HASH_PREFIX_LENGTH);
+    }
+}
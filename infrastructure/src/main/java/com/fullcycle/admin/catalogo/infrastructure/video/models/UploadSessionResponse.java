@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import java.time.Instant;
+import java.util.Map;
+
+public record UploadSessionResponse(
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("upload_id") String uploadId,
+        @JsonProperty("upload_url") String uploadUrl,
+        @JsonProperty("method") String method,
+        @JsonProperty("headers") Map<String, String> headers,
+        @JsonProperty("expires_at") Instant expiresAt
+) {
+}
@@ -2,18 +2,21 @@ package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import org.hibernate.annotations.Type;
 
 @Entity(name = "AudioVideoMedia")
 @Table(name = "videos_video_media")
 public class AudioVideoMediaJpaEntity {
 
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "checksum", nullable = false)
@@ -1,16 +1,19 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import org.hibernate.annotations.Type;
 
 @Entity(name = "ImageMedia")
 @Table(name = "videos_image_media")
 public class ImageMediaJpaEntity {
 
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "checksum", nullable = false)
@@ -1,17 +1,21 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
 import java.io.Serializable;
 import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import org.hibernate.annotations.Type;
 
 @Embeddable
 public class VideoCastMemberID implements Serializable {
 
     @Column(name = "video_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String videoId;
 
     @Column(name = "cast_member_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String castMemberId;
 
     public VideoCastMemberID() {
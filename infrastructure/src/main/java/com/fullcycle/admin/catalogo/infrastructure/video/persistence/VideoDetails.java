@@ -0,0 +1,110 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
+import java.time.Instant;
+import java.time.Year;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// read model of VideoRepository.findDetailsById: the video columns plus the columns of each media, prefixed by it
+public interface VideoDetails {
+
+    String getId();
+    String getTitle();
+    String getDescription();
+    int getYearLaunched();
+    double getDuration();
+    boolean isOpened();
+    boolean isPublished();
+    Rating getRating();
+    Instant getCreatedAt();
+    Instant getUpdatedAt();
+    String getVideoId();
+    String getVideoChecksum();
+    String getVideoName();
+    String getVideoFilePath();
+    String getVideoEncodedPath();
+    MediaStatus getVideoStatus();
+    String getTrailerId();
+    String getTrailerChecksum();
+    String getTrailerName();
+    String getTrailerFilePath();
+    String getTrailerEncodedPath();
+    MediaStatus getTrailerStatus();
+    String getBannerId();
+    String getBannerChecksum();
+    String getBannerName();
+    String getBannerFilePath();
+    String getThumbnailId();
+    String getThumbnailChecksum();
+    String getThumbnailName();
+    String getThumbnailFilePath();
+    String getThumbnailHalfId();
+    String getThumbnailHalfChecksum();
+    String getThumbnailHalfName();
+    String getThumbnailHalfFilePath();
+
+    // references are the (table, id) pairs of VideoRepository.findReferencesById
+    default Video toAggregate(final List<Object[]> references) {
+        final Set<CategoryID> categories = new HashSet<>();
+        final Set<GenreID> genres = new HashSet<>();
+        final Set<CastMemberID> members = new HashSet<>();
+
+        for (final var reference : references) {
+            final var anId = BinaryIdType.hexOf((byte[]) reference[1]);
+            switch (String.valueOf(reference[0]).trim()) {
+                case "CATEGORY" -> categories.add(CategoryID.from(anId));
+                case "GENRE" -> genres.add(GenreID.from(anId));
+                case "CAST_MEMBER" -> members.add(CastMemberID.from(anId));
+                default -> throw new IllegalStateException("Unknown video reference " + reference[0]);
+            }
+        }
+
+        return Video.with(
+                VideoID.from(getId()),
+                getTitle(),
+                getDescription(),
+                Year.of(getYearLaunched()),
+                getDuration(),
+                isOpened(),
+                isPublished(),
+                getRating(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                image(getBannerId(), getBannerChecksum(), getBannerName(), getBannerFilePath()),
+                image(getThumbnailId(), getThumbnailChecksum(), getThumbnailName(), getThumbnailFilePath()),
+                image(getThumbnailHalfId(), getThumbnailHalfChecksum(), getThumbnailHalfName(), getThumbnailHalfFilePath()),
+                audioVideo(getTrailerId(), getTrailerChecksum(), getTrailerName(), getTrailerFilePath(), getTrailerEncodedPath(), getTrailerStatus()),
+                audioVideo(getVideoId(), getVideoChecksum(), getVideoName(), getVideoFilePath(), getVideoEncodedPath(), getVideoStatus()),
+                categories,
+                genres,
+                members
+        );
+    }
+
+    // a left join without a media leaves all of its columns null
+    private static ImageMedia image(final String id, final String checksum, final String name, final String filePath) {
+        return id == null ? null : ImageMedia.with(id, checksum, name, filePath);
+    }
+
+    private static AudioVideoMedia audioVideo(
+            final String id,
+            final String checksum,
+            final String name,
+            final String filePath,
+            final String encodedPath,
+            final MediaStatus status
+    ) {
+        return id == null ? null : AudioVideoMedia.with(id, checksum, name, filePath, encodedPath, status);
+    }
+}
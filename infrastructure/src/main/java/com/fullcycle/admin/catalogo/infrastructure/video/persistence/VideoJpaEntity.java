@@ -4,9 +4,13 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.AssociationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BinaryIdType;
 import java.time.Instant;
 import java.time.Year;
 import java.util.HashSet;
@@ -22,6 +26,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import org.hibernate.annotations.Type;
 
 @Entity(name = "Video")
 @Table(name = "videos")
@@ -29,6 +34,7 @@ public class VideoJpaEntity {
 
     @Id
     @Column(name = "id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "title", nullable = false)
@@ -168,6 +174,31 @@ public class VideoJpaEntity {
 
     }
 
+    // copies the aggregate onto this managed entity: unchanged media keep their rows and only the categories, genres
+    // and cast members that were added or removed are written
+    public VideoJpaEntity update(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.getOpened();
+        this.published = aVideo.getPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.updatedAt = aVideo.getUpdatedAt();
+        this.video = sync(this.video, aVideo.getVideo().orElse(null));
+        this.trailer = sync(this.trailer, aVideo.getTrailer().orElse(null));
+        this.banner = sync(this.banner, aVideo.getBanner().orElse(null));
+        this.thumbnail = sync(this.thumbnail, aVideo.getThumbnail().orElse(null));
+        this.thumbnailHalf = sync(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+
+        AssociationUtils.sync(this.categories, aVideo.getCategories(), it -> it.getId().getCategoryId(), this::addCategory);
+        AssociationUtils.sync(this.genres, aVideo.getGenres(), it -> it.getId().getGenreId(), this::addGenre);
+        AssociationUtils.sync(
+                this.castMembers, aVideo.getCastMembers(), it -> it.getId().getCastMemberId(), this::addCastMember
+        );
+        return this;
+    }
+
     public Video toAggregate() {
         return Video.with(
                 VideoID.from(getId()),
@@ -204,6 +235,32 @@ public class VideoJpaEntity {
         );
     }
 
+    private static AudioVideoMediaJpaEntity sync(final AudioVideoMediaJpaEntity current, final AudioVideoMedia media) {
+        if (media == null) {
+            return null;
+        }
+        if (current == null || !current.getId().equals(media.id())) {
+            return AudioVideoMediaJpaEntity.from(media);
+        }
+        return current.setChecksum(media.checksum())
+                .setName(media.name())
+                .setFilePath(media.rawLocation())
+                .setEncodedPath(media.encodedLocation())
+                .setStatus(media.status());
+    }
+
+    private static ImageMediaJpaEntity sync(final ImageMediaJpaEntity current, final ImageMedia media) {
+        if (media == null) {
+            return null;
+        }
+        if (current == null || !current.getId().equals(media.id())) {
+            return ImageMediaJpaEntity.from(media);
+        }
+        return current.setChecksum(media.checksum())
+                .setName(media.name())
+                .setFilePath(media.location());
+    }
+
     public void addCategory(final CategoryID anId) {
         this.categories.add(VideoCategoryJpaEntity.from(this, anId));
     }
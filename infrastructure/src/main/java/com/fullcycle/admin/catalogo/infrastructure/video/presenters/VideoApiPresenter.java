@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.presenters;
 
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadSessionOutput;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
@@ -11,6 +12,7 @@ import com.fullcycle.admin.catalogo.infrastructure.video.models.AudioVideoMediaR
 import com.fullcycle.admin.catalogo.infrastructure.video.models.ImageMediaResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UploadMediaResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.UploadSessionResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
 
@@ -86,4 +88,16 @@ public interface VideoApiPresenter {
     static UploadMediaResponse present(final UploadMediaOutput output) {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
+
+    static UploadSessionResponse present(final CreateMediaUploadSessionOutput output) {
+        return new UploadSessionResponse(
+                output.videoId(),
+                output.mediaType(),
+                output.uploadId(),
+                output.uploadUrl(),
+                output.method(),
+                output.headers(),
+                output.expiresAt()
+        );
+    }
 }
\ No newline at end of file
@@ -1,42 +1,183 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.repository;
 
-import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoDetails;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
-import java.util.Set;
-import org.springframework.data.domain.Page;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, KeysetRepository<VideoJpaEntity> {
 
+    // the video row and its five media in one select of plain values, nothing is loaded as a managed entity
     @Query("""
-            select distinct new com.fullcycle.admin.catalogo.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
-            )
-            from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
-            where
-                ( :terms is null or UPPER(v.title) like :terms )
-            and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
-            and
-                ( :categories is null or categories.id.categoryId in :categories )
-            and
-                ( :genres is null or genres.id.genreId in :genres )
+            select v.id as id,
+                   v.title as title,
+                   v.description as description,
+                   v.yearLaunched as yearLaunched,
+                   v.duration as duration,
+                   v.opened as opened,
+                   v.published as published,
+                   v.rating as rating,
+                   v.createdAt as createdAt,
+                   v.updatedAt as updatedAt,
+                   video.id as videoId,
+                   video.checksum as videoChecksum,
+                   video.name as videoName,
+                   video.filePath as videoFilePath,
+                   video.encodedPath as videoEncodedPath,
+                   video.status as videoStatus,
+                   trailer.id as trailerId,
+                   trailer.checksum as trailerChecksum,
+                   trailer.name as trailerName,
+                   trailer.filePath as trailerFilePath,
+                   trailer.encodedPath as trailerEncodedPath,
+                   trailer.status as trailerStatus,
+                   banner.id as bannerId,
+                   banner.checksum as bannerChecksum,
+                   banner.name as bannerName,
+                   banner.filePath as bannerFilePath,
+                   thumbnail.id as thumbnailId,
+                   thumbnail.checksum as thumbnailChecksum,
+                   thumbnail.name as thumbnailName,
+                   thumbnail.filePath as thumbnailFilePath,
+                   thumbnailHalf.id as thumbnailHalfId,
+                   thumbnailHalf.checksum as thumbnailHalfChecksum,
+                   thumbnailHalf.name as thumbnailHalfName,
+                   thumbnailHalf.filePath as thumbnailHalfFilePath
+              from Video v
+              left join v.video video
+              left join v.trailer trailer
+              left join v.banner banner
+              left join v.thumbnail thumbnail
+              left join v.thumbnailHalf thumbnailHalf
+             where v.id = :id
             """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("castMembers") Set<String> castMembers,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            Pageable page
+    Optional<VideoDetails> findDetailsById(@Param("id") String id);
+
+    // ids of the categories, genres and cast members of a video, each tagged with the table it came from.
+    // native, so the id goes in and comes out as the bytes of the BINARY(16) columns
+    @Query(nativeQuery = true, value = """
+            select 'CATEGORY', category_id from videos_categories where video_id = :id
+            union all
+            select 'GENRE', genre_id from videos_genres where video_id = :id
+            union all
+            select 'CAST_MEMBER', cast_member_id from videos_cast_members where video_id = :id
+            """)
+    List<Object[]> findReferencesById(@Param("id") byte[] id);
+
+    @Query("select m.checksum from Video v join v.video m where v.id = :id")
+    Optional<String> findVideoChecksumById(@Param("id") String id);
+
+    @Query("select m.checksum from Video v join v.trailer m where v.id = :id")
+    Optional<String> findTrailerChecksumById(@Param("id") String id);
+
+    @Query("select m.checksum from Video v join v.banner m where v.id = :id")
+    Optional<String> findBannerChecksumById(@Param("id") String id);
+
+    @Query("select m.checksum from Video v join v.thumbnail m where v.id = :id")
+    Optional<String> findThumbnailChecksumById(@Param("id") String id);
+
+    @Query("select m.checksum from Video v join v.thumbnailHalf m where v.id = :id")
+    Optional<String> findThumbnailHalfChecksumById(@Param("id") String id);
+
+    @Query("select v.id from Video v order by v.id")
+    List<String> findFirstIds(Pageable page);
+
+    // the id is bound as BINARY(16), so it has to be a real id: the first page goes through findFirstIds
+    @Query("select v.id from Video v where v.id > :after order by v.id")
+    List<String> findIdsAfter(@Param("after") String after, Pageable page);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AudioVideoMedia m set m.filePath = :to where m.filePath = :from")
+    int updateAudioVideoMediaLocation(@Param("from") String from, @Param("to") String to);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ImageMedia m set m.filePath = :to where m.filePath = :from")
+    int updateImageMediaLocation(@Param("from") String from, @Param("to") String to);
+
+    @Query("""
+            select m.encodedPath from AudioVideoMedia m
+             where m.id in (select v.video.id from Video v where v.id = :id)
+                or m.id in (select v.trailer.id from Video v where v.id = :id)
+            """)
+    List<String> findEncodedLocationsById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AudioVideoMedia m set m.encodedPath = :to where m.encodedPath = :from")
+    int updateAudioVideoEncodedLocation(@Param("from") String from, @Param("to") String to);
+
+    // the primary key makes the insert fail on every node but the first one to claim the migration
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into media_location_migrations (from_pattern, to_pattern, owner, started_at, leased_at)
+            values (:from, :to, :owner, :now, :now)
+            """, nativeQuery = true)
+    int claimMediaLocationMigration(
+            @Param("from") String from,
+            @Param("to") String to,
+            @Param("owner") String owner,
+            @Param("now") Instant now
+    );
+
+    // an unfinished claim whose lease was not renewed since staleBefore changes hands, on one node only
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update media_location_migrations set owner = :owner, leased_at = :now
+             where from_pattern = :from and to_pattern = :to
+               and finished_at is null
+               and (leased_at is null or leased_at < :staleBefore)
+            """, nativeQuery = true)
+    int takeOverMediaLocationMigration(
+            @Param("from") String from,
+            @Param("to") String to,
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("staleBefore") Instant staleBefore
+    );
+
+    @Query(value = """
+            select last_video_id from media_location_migrations
+             where from_pattern = :from and to_pattern = :to
+            """, nativeQuery = true)
+    Optional<String> findMediaLocationMigrationProgress(@Param("from") String from, @Param("to") String to);
+
+    // no row is updated once another node took the claim over
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update media_location_migrations set leased_at = :now, last_video_id = :lastVideoId
+             where from_pattern = :from and to_pattern = :to and owner = :owner and finished_at is null
+            """, nativeQuery = true)
+    int renewMediaLocationMigration(
+            @Param("from") String from,
+            @Param("to") String to,
+            @Param("owner") String owner,
+            @Param("lastVideoId") String lastVideoId,
+            @Param("now") Instant now
+    );
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update media_location_migrations set finished_at = :finishedAt
+             where from_pattern = :from and to_pattern = :to and owner = :owner
+            """, nativeQuery = true)
+    int finishMediaLocationMigration(
+            @Param("from") String from,
+            @Param("to") String to,
+            @Param("owner") String owner,
+            @Param("finishedAt") Instant finishedAt
     );
 }
@@ -0,0 +1,48 @@
+-- same columns as db/migration-mysql/V7, the test databases start empty so there is nothing to unhex
+alter TABLE genres_categories DROP CONSTRAINT fk_genre_id;
+alter TABLE genres_categories DROP CONSTRAINT fk_category_id;
+alter TABLE videos DROP CONSTRAINT fk_v_video_id;
+alter TABLE videos DROP CONSTRAINT fk_v_trailer_id;
+alter TABLE videos DROP CONSTRAINT fk_v_banner_id;
+alter TABLE videos DROP CONSTRAINT fk_v_thumb_id;
+alter TABLE videos DROP CONSTRAINT fk_v_thumb_half_id;
+alter TABLE videos_categories DROP CONSTRAINT fk_vcs_video_id;
+alter TABLE videos_categories DROP CONSTRAINT fk_vcs_category_id;
+alter TABLE videos_genres DROP CONSTRAINT fk_vgs_video_id;
+alter TABLE videos_genres DROP CONSTRAINT fk_vgs_genre_id;
+alter TABLE videos_cast_members DROP CONSTRAINT fk_vcms_video_id;
+alter TABLE videos_cast_members DROP CONSTRAINT fk_vcms_cast_member_id;
+
+alter TABLE categories ALTER COLUMN id SET DATA TYPE BINARY(16);
+alter TABLE genres ALTER COLUMN id SET DATA TYPE BINARY(16);
+alter TABLE cast_members ALTER COLUMN id SET DATA TYPE BINARY(16);
+alter TABLE videos_video_media ALTER COLUMN id SET DATA TYPE BINARY(16);
+alter TABLE videos_image_media ALTER COLUMN id SET DATA TYPE BINARY(16);
+alter TABLE videos ALTER COLUMN id SET DATA TYPE BINARY(16);
+alter TABLE videos ALTER COLUMN video_id SET DATA TYPE BINARY(16);
+alter TABLE videos ALTER COLUMN trailer_id SET DATA TYPE BINARY(16);
+alter TABLE videos ALTER COLUMN banner_id SET DATA TYPE BINARY(16);
+alter TABLE videos ALTER COLUMN thumbnail_id SET DATA TYPE BINARY(16);
+alter TABLE videos ALTER COLUMN thumbnail_half_id SET DATA TYPE BINARY(16);
+alter TABLE genres_categories ALTER COLUMN genre_id SET DATA TYPE BINARY(16);
+alter TABLE genres_categories ALTER COLUMN category_id SET DATA TYPE BINARY(16);
+alter TABLE videos_categories ALTER COLUMN video_id SET DATA TYPE BINARY(16);
+alter TABLE videos_categories ALTER COLUMN category_id SET DATA TYPE BINARY(16);
+alter TABLE videos_genres ALTER COLUMN video_id SET DATA TYPE BINARY(16);
+alter TABLE videos_genres ALTER COLUMN genre_id SET DATA TYPE BINARY(16);
+alter TABLE videos_cast_members ALTER COLUMN video_id SET DATA TYPE BINARY(16);
+alter TABLE videos_cast_members ALTER COLUMN cast_member_id SET DATA TYPE BINARY(16);
+
+alter TABLE genres_categories ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+alter TABLE genres_categories ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
+alter TABLE videos ADD CONSTRAINT fk_v_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+alter TABLE videos ADD CONSTRAINT fk_v_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+alter TABLE videos ADD CONSTRAINT fk_v_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+alter TABLE videos ADD CONSTRAINT fk_v_thumb_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+alter TABLE videos ADD CONSTRAINT fk_v_thumb_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+alter TABLE videos_categories ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+alter TABLE videos_categories ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES categories (id);
+alter TABLE videos_genres ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+alter TABLE videos_genres ADD CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id);
+alter TABLE videos_cast_members ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+alter TABLE videos_cast_members ADD CONSTRAINT fk_vcms_cast_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id);
\ No newline at end of file
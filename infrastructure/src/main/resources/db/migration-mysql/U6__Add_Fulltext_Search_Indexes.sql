@@ -0,0 +1,4 @@
+drop INDEX ft_videos_title_description ON videos;
+drop INDEX ft_categories_name_description ON categories;
+drop INDEX ft_genres_name ON genres;
+drop INDEX ft_cast_members_name ON cast_members;
\ No newline at end of file
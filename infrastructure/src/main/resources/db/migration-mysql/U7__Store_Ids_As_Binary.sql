@@ -0,0 +1,156 @@
+-- like V7, every step can run again after a run that stopped halfway
+SET @ddl = (SELECT IFNULL(CONCAT('alter TABLE genres_categories ', GROUP_CONCAT('DROP FOREIGN KEY ', constraint_name)), 'DO 0')
+              FROM information_schema.table_constraints
+             WHERE constraint_schema = DATABASE() AND table_name = 'genres_categories' AND constraint_type = 'FOREIGN KEY');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = (SELECT IFNULL(CONCAT('alter TABLE videos ', GROUP_CONCAT('DROP FOREIGN KEY ', constraint_name)), 'DO 0')
+              FROM information_schema.table_constraints
+             WHERE constraint_schema = DATABASE() AND table_name = 'videos' AND constraint_type = 'FOREIGN KEY');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = (SELECT IFNULL(CONCAT('alter TABLE videos_categories ', GROUP_CONCAT('DROP FOREIGN KEY ', constraint_name)), 'DO 0')
+              FROM information_schema.table_constraints
+             WHERE constraint_schema = DATABASE() AND table_name = 'videos_categories' AND constraint_type = 'FOREIGN KEY');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = (SELECT IFNULL(CONCAT('alter TABLE videos_genres ', GROUP_CONCAT('DROP FOREIGN KEY ', constraint_name)), 'DO 0')
+              FROM information_schema.table_constraints
+             WHERE constraint_schema = DATABASE() AND table_name = 'videos_genres' AND constraint_type = 'FOREIGN KEY');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = (SELECT IFNULL(CONCAT('alter TABLE videos_cast_members ', GROUP_CONCAT('DROP FOREIGN KEY ', constraint_name)), 'DO 0')
+              FROM information_schema.table_constraints
+             WHERE constraint_schema = DATABASE() AND table_name = 'videos_cast_members' AND constraint_type = 'FOREIGN KEY');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+
+alter TABLE categories
+    MODIFY id VARBINARY(32) NOT NULL;
+update categories SET id = LOWER(HEX(id)) WHERE LENGTH(id) = 16;
+alter TABLE categories
+    MODIFY id CHAR(32) NOT NULL;
+
+alter TABLE genres
+    MODIFY id VARBINARY(32) NOT NULL;
+update genres SET id = LOWER(HEX(id)) WHERE LENGTH(id) = 16;
+alter TABLE genres
+    MODIFY id CHAR(32) NOT NULL;
+
+alter TABLE cast_members
+    MODIFY id VARBINARY(32) NOT NULL;
+update cast_members SET id = LOWER(HEX(id)) WHERE LENGTH(id) = 16;
+alter TABLE cast_members
+    MODIFY id CHAR(32) NOT NULL;
+
+alter TABLE videos_video_media
+    MODIFY id VARBINARY(32) NOT NULL;
+update videos_video_media SET id = LOWER(HEX(id)) WHERE LENGTH(id) = 16;
+alter TABLE videos_video_media
+    MODIFY id CHAR(32) NOT NULL;
+
+alter TABLE videos_image_media
+    MODIFY id VARBINARY(32) NOT NULL;
+update videos_image_media SET id = LOWER(HEX(id)) WHERE LENGTH(id) = 16;
+alter TABLE videos_image_media
+    MODIFY id CHAR(32) NOT NULL;
+
+alter TABLE videos
+    MODIFY id VARBINARY(32) NOT NULL,
+    MODIFY video_id VARBINARY(32) NULL,
+    MODIFY trailer_id VARBINARY(32) NULL,
+    MODIFY banner_id VARBINARY(32) NULL,
+    MODIFY thumbnail_id VARBINARY(32) NULL,
+    MODIFY thumbnail_half_id VARBINARY(32) NULL;
+update videos
+   SET id = IF(LENGTH(id) = 16, LOWER(HEX(id)), id),
+       video_id = IF(LENGTH(video_id) = 16, LOWER(HEX(video_id)), video_id),
+       trailer_id = IF(LENGTH(trailer_id) = 16, LOWER(HEX(trailer_id)), trailer_id),
+       banner_id = IF(LENGTH(banner_id) = 16, LOWER(HEX(banner_id)), banner_id),
+       thumbnail_id = IF(LENGTH(thumbnail_id) = 16, LOWER(HEX(thumbnail_id)), thumbnail_id),
+       thumbnail_half_id = IF(LENGTH(thumbnail_half_id) = 16, LOWER(HEX(thumbnail_half_id)), thumbnail_half_id)
+ WHERE LENGTH(id) = 16
+    OR LENGTH(video_id) = 16
+    OR LENGTH(trailer_id) = 16
+    OR LENGTH(banner_id) = 16
+    OR LENGTH(thumbnail_id) = 16
+    OR LENGTH(thumbnail_half_id) = 16;
+alter TABLE videos
+    MODIFY id CHAR(32) NOT NULL,
+    MODIFY video_id CHAR(32) NULL,
+    MODIFY trailer_id CHAR(32) NULL,
+    MODIFY banner_id CHAR(32) NULL,
+    MODIFY thumbnail_id CHAR(32) NULL,
+    MODIFY thumbnail_half_id CHAR(32) NULL;
+
+alter TABLE genres_categories
+    MODIFY genre_id VARBINARY(32) NOT NULL,
+    MODIFY category_id VARBINARY(32) NOT NULL;
+update genres_categories
+   SET genre_id = IF(LENGTH(genre_id) = 16, LOWER(HEX(genre_id)), genre_id),
+       category_id = IF(LENGTH(category_id) = 16, LOWER(HEX(category_id)), category_id)
+ WHERE LENGTH(genre_id) = 16
+    OR LENGTH(category_id) = 16;
+alter TABLE genres_categories
+    MODIFY genre_id CHAR(32) NOT NULL,
+    MODIFY category_id CHAR(32) NOT NULL;
+
+alter TABLE videos_categories
+    MODIFY video_id VARBINARY(32) NOT NULL,
+    MODIFY category_id VARBINARY(32) NOT NULL;
+update videos_categories
+   SET video_id = IF(LENGTH(video_id) = 16, LOWER(HEX(video_id)), video_id),
+       category_id = IF(LENGTH(category_id) = 16, LOWER(HEX(category_id)), category_id)
+ WHERE LENGTH(video_id) = 16
+    OR LENGTH(category_id) = 16;
+alter TABLE videos_categories
+    MODIFY video_id CHAR(32) NOT NULL,
+    MODIFY category_id CHAR(32) NOT NULL;
+
+alter TABLE videos_genres
+    MODIFY video_id VARBINARY(32) NOT NULL,
+    MODIFY genre_id VARBINARY(32) NOT NULL;
+update videos_genres
+   SET video_id = IF(LENGTH(video_id) = 16, LOWER(HEX(video_id)), video_id),
+       genre_id = IF(LENGTH(genre_id) = 16, LOWER(HEX(genre_id)), genre_id)
+ WHERE LENGTH(video_id) = 16
+    OR LENGTH(genre_id) = 16;
+alter TABLE videos_genres
+    MODIFY video_id CHAR(32) NOT NULL,
+    MODIFY genre_id CHAR(32) NOT NULL;
+
+alter TABLE videos_cast_members
+    MODIFY video_id VARBINARY(32) NOT NULL,
+    MODIFY cast_member_id VARBINARY(32) NOT NULL;
+update videos_cast_members
+   SET video_id = IF(LENGTH(video_id) = 16, LOWER(HEX(video_id)), video_id),
+       cast_member_id = IF(LENGTH(cast_member_id) = 16, LOWER(HEX(cast_member_id)), cast_member_id)
+ WHERE LENGTH(video_id) = 16
+    OR LENGTH(cast_member_id) = 16;
+alter TABLE videos_cast_members
+    MODIFY video_id CHAR(32) NOT NULL,
+    MODIFY cast_member_id CHAR(32) NOT NULL;
+
+alter TABLE genres_categories
+    ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
+alter TABLE videos
+    ADD CONSTRAINT fk_v_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_v_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_v_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_v_thumb_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_v_thumb_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+alter TABLE videos_categories
+    ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id),
+    ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES categories (id);
+alter TABLE videos_genres
+    ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id),
+    ADD CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id);
+alter TABLE videos_cast_members
+    ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id),
+    ADD CONSTRAINT fk_vcms_cast_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id);
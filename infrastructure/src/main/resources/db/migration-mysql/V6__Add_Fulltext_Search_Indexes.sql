@@ -0,0 +1,7 @@
+create FULLTEXT INDEX ft_videos_title_description ON videos (title, description);
+
+create FULLTEXT INDEX ft_categories_name_description ON categories (name, description);
+
+create FULLTEXT INDEX ft_genres_name ON genres (name);
+
+create FULLTEXT INDEX ft_cast_members_name ON cast_members (name);
\ No newline at end of file
@@ -0,0 +1,3 @@
+drop INDEX idx_vcs_category_video ON videos_categories;
+drop INDEX idx_vgs_genre_video ON videos_genres;
+drop INDEX idx_vcms_member_video ON videos_cast_members;
\ No newline at end of file
@@ -0,0 +1 @@
+drop TABLE media_location_migrations;
\ No newline at end of file
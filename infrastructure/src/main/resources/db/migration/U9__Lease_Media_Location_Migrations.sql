@@ -0,0 +1,5 @@
+alter TABLE media_location_migrations DROP COLUMN last_video_id;
+
+alter TABLE media_location_migrations DROP COLUMN leased_at;
+
+alter TABLE media_location_migrations DROP COLUMN owner;
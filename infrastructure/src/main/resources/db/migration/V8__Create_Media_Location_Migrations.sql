@@ -0,0 +1,7 @@
+create TABLE media_location_migrations (
+    from_pattern VARCHAR(255) NOT NULL,
+    to_pattern VARCHAR(255) NOT NULL,
+    started_at DATETIME(6) NOT NULL,
+    finished_at DATETIME(6) NULL,
+    PRIMARY KEY (from_pattern, to_pattern)
+);
@@ -0,0 +1,10 @@
+-- a claim is a lease: its owner renews leased_at after every batch and records the last video it went through, so
+-- a claim whose owner stopped renewing it is taken over by the next node to start and resumed from that video.
+-- claims left unfinished before this get a lease that is already stale
+alter TABLE media_location_migrations ADD COLUMN owner VARCHAR(32) NULL;
+
+alter TABLE media_location_migrations ADD COLUMN leased_at DATETIME(6) NULL;
+
+alter TABLE media_location_migrations ADD COLUMN last_video_id VARCHAR(32) NULL;
+
+update media_location_migrations SET leased_at = started_at WHERE finished_at IS NULL;
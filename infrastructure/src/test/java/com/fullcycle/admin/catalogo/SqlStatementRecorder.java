@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// hibernate creates the inspector by class name, so what it sees is kept statically for the test to read back
+public class SqlStatementRecorder implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.fullcycle.admin.catalogo.SqlStatementRecorder";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    public static List<String> selects() {
+        return STATEMENTS.stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.startsWith("select"))
+                .toList();
+    }
+
+    public static List<String> selectsFrom(final String table) {
+        return selects().stream()
+                .filter(sql -> sql.contains(" from " + table + " "))
+                .toList();
+    }
+
+    // inserts, updates and deletes on the table
+    public static List<String> writesTo(final String table) {
+        return STATEMENTS.stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.startsWith("insert into " + table + " ")
+                        || sql.startsWith("update " + table + " ")
+                        || sql.startsWith("delete from " + table + " "))
+                .toList();
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+}
@@ -2,10 +2,12 @@ package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalogo.IntegrationTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextSearches;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,12 @@ public class ListCategoriesUseCaseIT {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private TextSearches textSearches;
+
     @BeforeEach
     void mockUp() {
         final var categories = Stream.of(
@@ -49,6 +57,27 @@ public class ListCategoriesUseCaseIT {
         });
 
         categoryRepository.saveAllAndFlush(categories);
+
+        // the repository skips the in-memory index, which otherwise only reloads every refresh interval
+        textSearches.refresh();
+    }
+
+    @Test
+    public void givenWritesThroughTheGateway_whenCallsListCategoriesRightAfter_shouldNotWaitForTheNextRefresh() {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategory("Animes", "Desenhos japoneses", true));
+        final var aQuery = new SearchQuery(0, 10, "desenhos", "name", "asc");
+
+        // when
+        final var afterCreate = useCase.execute(aQuery);
+        categoryGateway.deleteById(aCategory.getId());
+        final var afterDelete = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertEquals(1, afterCreate.total());
+        Assertions.assertEquals("Animes", afterCreate.items().get(0).name());
+        Assertions.assertEquals(0, afterDelete.total());
+        Assertions.assertTrue(afterDelete.items().isEmpty());
     }
 
     @Test
@@ -6,6 +6,7 @@ import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextSearches;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +27,9 @@ public class ListGenreUseCaseIT {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private TextSearches textSearches;
+
     @Test
     public void givenAValidQuery_whenCallsListGenre_shouldReturnGenres() {
         // given
@@ -35,6 +39,7 @@ public class ListGenreUseCaseIT {
         );
 
         genreRepository.saveAllAndFlush(genres.stream().map(GenreJpaEntity::from).toList());
+        textSearches.refresh();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
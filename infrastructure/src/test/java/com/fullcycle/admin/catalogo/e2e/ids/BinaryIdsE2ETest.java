@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalogo.e2e.ids;
+
+import com.fullcycle.admin.catalogo.E2ETest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@E2ETest
+@Testcontainers
+public class BinaryIdsE2ETest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER
+            = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDataSourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Test
+    public void givenMigratedIds_whenRunsV7Again_shouldKeepEveryIdAndForeignKey() throws SQLException {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategory(aCategory.getId()));
+        final var expectedForeignKeys = 13;
+
+        // when
+        try (final var connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration-mysql/V7__Store_Ids_As_Binary.sql"));
+        }
+
+        // then
+        Assertions.assertEquals("Filmes", categoryGateway.findById(aCategory.getId()).orElseThrow().getName());
+        Assertions.assertEquals(
+                List.of(aCategory.getId()),
+                genreGateway.findById(aGenre.getId()).orElseThrow().getCategories()
+        );
+        Assertions.assertEquals(expectedForeignKeys, foreignKeys());
+    }
+
+    private int foreignKeys() throws SQLException {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("""
+                     SELECT COUNT(*)
+                       FROM information_schema.table_constraints
+                      WHERE constraint_schema = DATABASE() AND constraint_type = 'FOREIGN KEY'
+                     """);
+             final var rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
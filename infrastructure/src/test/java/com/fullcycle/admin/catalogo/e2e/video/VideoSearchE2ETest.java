@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalogo.e2e.video;
+
+import com.fullcycle.admin.catalogo.E2ETest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.utils.FullTextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextSearches;
+import java.time.Year;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@E2ETest
+@Testcontainers
+public class VideoSearchE2ETest {
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private TextSearches textSearches;
+
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER
+            = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDataSourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        givenAVideo("System Design no Mercado Livre na prática", "Como escalar um marketplace");
+        givenAVideo("Aula de empreendedorismo", "Do zero ao primeiro cliente");
+        givenAVideo("Não cometa esses erros ao trabalhar com Microsserviços", "Sistemas distribuídos na vida real");
+    }
+
+    @Test
+    public void givenTheVideosFullTextIndex_whenSearchesVideos_shouldGoThroughMatch() {
+        // when
+        final var actualSearch = textSearches.of("videos", "title", "description");
+
+        // then
+        Assertions.assertInstanceOf(FullTextSearch.class, actualSearch);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "empreendedorismo,Aula de empreendedorismo",
+            "microsser,Não cometa esses erros ao trabalhar com Microsserviços",
+            "marketplace,System Design no Mercado Livre na prática",
+            "sistemas distrib,Não cometa esses erros ao trabalhar com Microsserviços",
+            "do zero,Aula de empreendedorismo",
+            "na vida,Não cometa esses erros ao trabalhar com Microsserviços",
+    })
+    public void givenATerm_whenCallsFindAll_shouldMatchWordPrefixesOfTitleAndDescription(
+            final String expectedTerms,
+            final String expectedTitle
+    ) {
+        // when
+        final var actualPage = videoGateway.findAll(query(expectedTerms));
+
+        // then
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(expectedTitle, actualPage.items().get(0).title());
+    }
+
+    @Test
+    public void givenATermInTheMiddleOfAWord_whenCallsFindAll_shouldNotMatch() {
+        // when
+        final var actualPage = videoGateway.findAll(query("preendedorismo"));
+
+        // then
+        Assertions.assertEquals(0, actualPage.total());
+        Assertions.assertEquals(0, actualPage.items().size());
+    }
+
+    @Test
+    public void givenAShortWordThatIsNotInTheRow_whenCallsFindAll_shouldNotMatch() {
+        // when
+        final var actualPage = videoGateway.findAll(query("empreendedorismo na"));
+
+        // then
+        Assertions.assertEquals(0, actualPage.total());
+        Assertions.assertEquals(0, actualPage.items().size());
+    }
+
+    private void givenAVideo(final String title, final String description) {
+        videoGateway.create(Video.newVideo(
+                title,
+                description,
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ));
+    }
+
+    private static VideoSearchQuery query(final String terms) {
+        return new VideoSearchQuery(0, 10, terms, "title", "asc", Set.of(), Set.of(), Set.of());
+    }
+}
@@ -372,4 +372,39 @@ public class CategoryAPITest {
                                 Objects.equals(expectedSort, query.sort()) &&
                                 Objects.equals(expectedTerms, query.terms())));
     }
+
+    @Test
+    public void givenWithTotalFalseAndCursor_whenCallsListCategories_shouldReturnHasNextWithoutTotal() throws Exception {
+        //Given
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedPerPage = 1;
+        final var expectedCursor = "AAAEbmFtZQADQVNDAQAGTW92aWVzAAMxMjM";
+        final var expectedNextCursor = "AAAEbmFtZQADQVNDAQAGU2VyaWVzAAM0NTY";
+
+        when(listCategoriesUseCase.execute(any())).thenReturn(new Pagination<>(
+                0, expectedPerPage, Pagination.UNKNOWN_TOTAL, List.of(CategoryListOutput.from(aCategory)),
+                expectedNextCursor, true
+        ));
+
+        //When
+        final var request = get("/categories")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("cursor", expectedCursor)
+                .queryParam("with_total", "false")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        //Then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(-1)))
+                .andExpect(jsonPath("$.has_next", equalTo(true)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(
+                argThat(query ->
+                        Objects.equals(expectedCursor, query.cursor()) &&
+                                !query.withTotal()));
+    }
 }
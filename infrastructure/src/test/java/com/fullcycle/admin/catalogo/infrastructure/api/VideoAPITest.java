@@ -9,6 +9,9 @@ import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadSessionOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadSessionUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
@@ -32,11 +35,16 @@ import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CompleteUploadSessionRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateUploadSessionRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
+import java.time.Instant;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -56,10 +64,18 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -68,6 +84,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = VideoAPI.class)
@@ -100,6 +117,9 @@ public class VideoAPITest {
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private CreateMediaUploadSessionUseCase createMediaUploadSessionUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateFull_shouldReturnAnId() throws Exception {
         // given
@@ -705,23 +725,28 @@ public class VideoAPITest {
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-        final var expectedMedia =
-                new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+        final var expectedMedia = MediaOutput.with(expectedResource);
 
         when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
         // when
         final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name());
 
-        final var response = this.mvc.perform(aRequest);
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
 
         // then
         response.andExpect(status().isOk())
                 .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedResource.content().length)))
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedMedia.checksum())))
                 .andExpect(
                         header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                .andExpect(content().bytes(expectedMedia.content()));
+                .andExpect(content().bytes(expectedResource.content()));
 
         final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
 
@@ -730,6 +755,187 @@ public class VideoAPITest {
         final var actualCmd = captor.getValue();
         Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
         Assertions.assertEquals(expectedMediaType.name(), actualCmd.mediaType());
+        Assertions.assertTrue(actualCmd.knownChecksums().isEmpty());
+    }
+
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetMediaById_shouldReturnNotModified() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.THUMBNAIL;
+        final var expectedChecksum = "e3069283";
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.notModified(expectedChecksum));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(IF_NONE_MATCH, "\"a1b2c3d4\", W/\"%s\"".formatted(expectedChecksum));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedChecksum)))
+                .andExpect(content().bytes(new byte[0]));
+
+        final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
+
+        verify(this.getMediaUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertEquals(Set.of("a1b2c3d4", expectedChecksum), actualCmd.knownChecksums());
+    }
+
+    @Test
+    public void givenAnyIfNoneMatch_whenCallsGetMediaById_shouldAskForAnyChecksum() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.BANNER;
+        final var expectedChecksum = "e3069283";
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.notModified(expectedChecksum));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(IF_NONE_MATCH, "*");
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedChecksum)));
+
+        final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
+
+        verify(this.getMediaUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertEquals(Set.of(GetMediaCommand.ANY_CHECKSUM), actualCmd.knownChecksums());
+        Assertions.assertTrue(actualCmd.isKnown("anything"));
+    }
+
+    @Test
+    public void givenASignedDownloadUrl_whenCallsGetMediaById_shouldRedirectToIt() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedLocation = "https://storage.example.com/blobs/abc?X-Goog-Signature=123";
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.redirect(expectedLocation));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name());
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isFound())
+                .andExpect(header().string(LOCATION, expectedLocation))
+                .andExpect(header().string(CACHE_CONTROL, "no-store"))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    public void givenARangeHeader_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedSize = expectedResource.content().length;
+        final var expectedContent = Arrays.copyOfRange(expectedResource.content(), 2, 5);
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4");
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_RANGE, "bytes 2-4/%d".formatted(expectedSize)))
+                .andExpect(header().string(CONTENT_LENGTH, "3"))
+                .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    public void givenASuffixRangeHeader_whenCallsGetMediaById_shouldReturnTheLastBytes() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.TRAILER;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedSize = expectedResource.content().length;
+        final var expectedContent = Arrays.copyOfRange(expectedResource.content(), expectedSize - 3, expectedSize);
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=-3");
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_RANGE,
+                        "bytes %d-%d/%d".formatted(expectedSize - 3, expectedSize - 1, expectedSize)))
+                .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    public void givenAnUnsatisfiableRange_whenCallsGetMediaById_shouldReturn416() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedSize = expectedResource.content().length;
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=%d-".formatted(expectedSize));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */%d".formatted(expectedSize)));
+    }
+
+    @Test
+    public void givenAStaleIfRange_whenCallsGetMediaById_shouldReturnFullContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4")
+                .header(IF_RANGE, "\"stale\"");
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CONTENT_RANGE))
+                .andExpect(content().bytes(expectedResource.content()));
     }
 
     @Test
@@ -768,7 +974,8 @@ public class VideoAPITest {
 
         final var actualCmd = captor.getValue();
         Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
-        Assertions.assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        Assertions.assertArrayEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        Assertions.assertEquals(expectedResource.content().length, actualCmd.videoResource().resource().size());
         Assertions.assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
         Assertions.assertEquals(expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
         Assertions.assertEquals(expectedType, actualCmd.videoResource().type());
@@ -797,4 +1004,95 @@ public class VideoAPITest {
                 .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.message", equalTo("Invalid INVALID for VideoMediaType")));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenAValidContentType_whenCallsCreateUploadSession_shouldReturnTheSignedUpload() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUploadId = "0123456789abcdef0123456789abcdef";
+        final var expectedUrl = "https://storage.example.com/blobs/upload?X-Goog-Signature=123";
+        final var expectedContentType = "video/mp4";
+
+        when(createMediaUploadSessionUseCase.execute(any()))
+                .thenReturn(new CreateMediaUploadSessionOutput(
+                        expectedId.getValue(),
+                        expectedType,
+                        expectedUploadId,
+                        expectedUrl,
+                        "POST",
+                        Map.of("x-goog-resumable", "start"),
+                        Instant.now()
+                ));
+
+        // when
+        final var aRequest = post("/videos/{id}/medias/{type}/upload-sessions", expectedId.getValue(), expectedType.name())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new CreateUploadSessionRequest(expectedContentType)));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/%s/upload-sessions/%s"
+                        .formatted(expectedId.getValue(), expectedType.name(), expectedUploadId)))
+                .andExpect(jsonPath("$.upload_id", equalTo(expectedUploadId)))
+                .andExpect(jsonPath("$.upload_url", equalTo(expectedUrl)))
+                .andExpect(jsonPath("$.method", equalTo("POST")))
+                .andExpect(jsonPath("$.headers['x-goog-resumable']", equalTo("start")));
+
+        final var captor = ArgumentCaptor.forClass(CreateMediaUploadSessionCommand.class);
+
+        verify(this.createMediaUploadSessionUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
+        Assertions.assertEquals(expectedType, actualCmd.mediaType());
+        Assertions.assertEquals(expectedContentType, actualCmd.contentType());
+    }
+
+    @Test
+    public void givenAnUploadedSession_whenCallsCompleteUploadSession_shouldRecordTheMedia() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedUploadId = "0123456789abcdef0123456789abcdef";
+        final var expectedName = "trailer.mp4";
+
+        when(uploadMediaUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        // when
+        final var aRequest = put(
+                "/videos/{id}/medias/{type}/upload-sessions/{uploadId}",
+                expectedId.getValue(),
+                expectedType.name(),
+                expectedUploadId
+        )
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new CompleteUploadSessionRequest(expectedName)));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION,
+                        "/videos/%s/medias/%s".formatted(expectedId.getValue(), expectedType.name())))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+        final var captor = ArgumentCaptor.forClass(UploadMediaCommand.class);
+
+        verify(this.uploadMediaUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertTrue(actualCmd.isUploaded());
+        Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
+        Assertions.assertEquals(expectedType, actualCmd.mediaType());
+        Assertions.assertEquals(expectedUploadId, actualCmd.uploadId());
+        Assertions.assertEquals(expectedName, actualCmd.name());
+        Assertions.assertNull(actualCmd.videoResource());
+    }
+}
@@ -3,9 +3,12 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -263,6 +266,103 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenFollowCursor_whenCallsFindAllWithNextCursor_shouldReturnTheFollowingPages() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)));
+
+        var actualResult = categoryMySQLGateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryMySQLGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryMySQLGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenWithoutTotal_whenCallsFindAll_shouldSkipTheCountAndTellWhetherThereIsANextPage() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)));
+
+        var actualResult = categoryMySQLGateway.findAll(new SearchQuery(1, 1, "", "name", "asc", null, false));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertTrue(actualResult.hasNext());
+
+        actualResult = categoryMySQLGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor(), false));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenNullSortValues_whenFollowsCursorDescending_shouldReturnEveryCategoryOnce() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final var lives = Category.newCategory("Lives", "Ao vivo", true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios), CategoryJpaEntity.from(lives)));
+
+        final var expectedIds = categoryMySQLGateway.findAll(new SearchQuery(0, 4, "", "description", "desc"))
+                .items().stream().map(Category::getId).toList();
+
+        final var actualIds = new ArrayList<CategoryID>();
+        String cursor = null;
+        do {
+            final var actualResult =
+                    categoryMySQLGateway.findAll(new SearchQuery(0, 1, "", "description", "desc", cursor));
+            actualResult.items().forEach(it -> actualIds.add(it.getId()));
+            cursor = actualResult.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertEquals(4, expectedIds.size());
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void givenCursorOfAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' was issued for another sort order";
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))));
+
+        final var aCursor = categoryMySQLGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).nextCursor();
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMySQLGateway.findAll(new SearchQuery(0, 1, "", "createdAt", "asc", aCursor)));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
     @Test
     public void givenPrePersistedCategoriesAndDocAsTerms_whenCallsFindAllAndTermsMatchesCategoryName_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -317,6 +417,34 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenRelevanceSort_whenCallsFindAll_shouldReturnNamesStartingWithTheTermsFirst() {
+        final var miniDocs = Category.newCategory("Mini docs", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final var filmes = Category.newCategory("Filmes", "Docs e filmes", true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(miniDocs), CategoryJpaEntity.from(documentarios),
+                CategoryJpaEntity.from(filmes)));
+
+        final var query = new SearchQuery(0, 10, "doc", "relevance", "asc");
+        final var actualResult = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(3, actualResult.total());
+        Assertions.assertEquals(3, actualResult.items().size());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenRelevanceSortAndCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' can not page by relevance";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMySQLGateway.findAll(new SearchQuery(0, 1, "doc", "relevance", "asc", "abc")));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsExistsByIds_shouldReturnIds() {
         //given
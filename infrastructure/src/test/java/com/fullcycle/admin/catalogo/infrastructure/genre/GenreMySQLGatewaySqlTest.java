@@ -0,0 +1,110 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.SqlStatementRecorder;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = SqlStatementRecorder.PROPERTY)
+public class GenreMySQLGatewaySqlTest {
+
+    private static final int GENRES = 30;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private List<CategoryID> categories;
+
+    @BeforeEach
+    public void setUp() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+        categories = List.of(filmes.getId(), series.getId());
+
+        final var genres = new ArrayList<GenreJpaEntity>();
+        IntStream.range(0, GENRES).forEach(i -> {
+            final var aGenre = Genre.newGenre("Gênero " + i, true);
+            aGenre.addCategories(categories);
+            genres.add(GenreJpaEntity.from(aGenre));
+        });
+        genreRepository.saveAllAndFlush(genres);
+
+        SqlStatementRecorder.clear();
+    }
+
+    @Test
+    public void givenAPageOfGenresWithCategories_whenCallsFindAllWithoutTotal_shouldRunTwoQueries() {
+        // given
+        final var aQuery = new SearchQuery(0, 100, "", "name", "asc", null, false);
+
+        // when
+        final var actualPage = genreGateway.findAll(aQuery);
+
+        // then
+        assertEquals(GENRES, actualPage.items().size());
+        actualPage.items().forEach(aGenre -> assertEquals(new HashSet<>(categories), new HashSet<>(aGenre.getCategories())));
+        assertEquals(2, SqlStatementRecorder.selects().size(), String.join("\n", SqlStatementRecorder.selects()));
+    }
+
+    @Test
+    public void givenAPageOfGenresWithCategories_whenCallsFindAll_shouldOnlyAddTheCountQuery() {
+        // given
+        final var aQuery = new SearchQuery(0, 100, "", "name", "asc");
+
+        // when
+        final var actualPage = genreGateway.findAll(aQuery);
+
+        // then
+        assertEquals(GENRES, actualPage.total());
+        assertEquals(GENRES, actualPage.items().size());
+        assertEquals(3, SqlStatementRecorder.selects().size(), String.join("\n", SqlStatementRecorder.selects()));
+    }
+
+    @Test
+    public void givenARemovedCategory_whenCallsUpdate_shouldOnlyDeleteThatRow() {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(categories);
+        genreGateway.create(aGenre);
+        genreRepository.flush();
+        SqlStatementRecorder.clear();
+
+        // when
+        final var actualGenre = genreGateway.update(aGenre.update("Ação", true, List.of(categories.get(0))));
+        genreRepository.flush();
+
+        // then
+        final var actualWrites = SqlStatementRecorder.writesTo("genres_categories");
+        assertEquals(1, actualWrites.size(), String.join("\n", actualWrites));
+        assertTrue(actualWrites.get(0).startsWith("delete"), actualWrites.get(0));
+
+        assertEquals(List.of(categories.get(0)), actualGenre.getCategories());
+        assertEquals(List.of(categories.get(0)), genreGateway.findById(aGenre.getId()).get().getCategories());
+    }
+}
@@ -1,22 +1,51 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.video.Resource;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
+import com.google.auth.ServiceAccountSigner;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.google.cloud.storage.StorageOptions;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
@@ -39,24 +68,148 @@ public class GCStorageAPITest {
     }
 
     @Test
-    public void givenValidResource_whenCallsStore_shouldStoreIt() {
+    public void givenValidResource_whenCallsStore_shouldStoreIt() throws Exception {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
         final var expectedId = expectedResource.name();
 
-        final Blob blob = mockBlob(expectedResource);
-        doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
+        final var uploaded = new ByteArrayOutputStream();
+        final var writer = mockWriter(uploaded, 0);
+        doReturn(writer).when(storage).writer(any(BlobInfo.class), any(Storage.BlobWriteOption.class));
 
-        this.target.store(expectedId, expectedResource);
+        final var actualChecksum = this.target.store(expectedId, expectedResource);
 
         final var capturer = ArgumentCaptor.forClass(BlobInfo.class);
 
-        verify(storage, times(1)).create(capturer.capture(), eq(expectedResource.content()));
+        verify(storage, times(1)).writer(capturer.capture(), eq(Storage.BlobWriteOption.crc32cMatch()));
+        verify(writer, times(1)).close();
 
         final var actualBlob = capturer.getValue();
         assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
         assertEquals(expectedId, actualBlob.getBlobId().getName());
         assertEquals(expectedResource.contentType(), actualBlob.getContentType());
-        assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
+        assertEquals(HashingUtils.toBigEndianHex(expectedResource.checksum()), actualBlob.getCrc32cToHexString());
+        assertEquals(expectedResource.checksum(), actualChecksum);
+        assertArrayEquals(expectedResource.content(), uploaded.toByteArray());
+    }
+
+    @Test
+    public void givenStreamedResource_whenCallsStore_shouldWriteItInChunksAndComputeTheChecksum() throws Exception {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+        final var expectedId = expectedResource.name();
+        final var expectedChunkSize = 3;
+
+        this.target = new GCStorageService(bucket, storage, expectedChunkSize, 0, 0, 0);
+
+        final var uploaded = new ByteArrayOutputStream();
+        final var writer = mockWriter(uploaded, 0);
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        final var actualChecksum = this.target.store(expectedId, expectedResource);
+
+        verify(writer, times(1)).setChunkSize(expectedChunkSize);
+        verify(writer, times(3)).write(any(ByteBuffer.class));
+        verify(writer, times(1)).close();
+
+        assertArrayEquals(expectedContent, uploaded.toByteArray());
+        assertEquals(HashingUtils.checksum(expectedContent), actualChecksum);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenATransientFailure_whenCallsStore_shouldResumeFromTheLastCommittedChunk() throws Exception {
+        final var expectedContent = "Conteudo".getBytes();
+        final var opened = new ArrayList<Long>();
+        final var expectedResource = Resource.with(
+                new Resource.Source() {
+                    @Override
+                    public InputStream open() {
+                        return new ByteArrayInputStream(expectedContent);
+                    }
+
+                    @Override
+                    public InputStream open(final long offset, final long length) {
+                        opened.add(offset);
+                        return new ByteArrayInputStream(expectedContent, (int) offset, (int) length);
+                    }
+                },
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+
+        this.target = new GCStorageService(bucket, storage, 3, 1, 0, 0);
+
+        final var uploaded = new ByteArrayOutputStream();
+        final var failingWriter = mockWriter(uploaded, 2);
+        final var resumedWriter = mockWriter(uploaded, 0);
+
+        final RestorableState<WriteChannel> state = Mockito.mock(RestorableState.class);
+        when(state.restore()).thenReturn(resumedWriter);
+        when(failingWriter.capture()).thenReturn(state);
+        doReturn(failingWriter).when(storage).writer(any(BlobInfo.class));
+
+        final var actualChecksum = this.target.store("video", expectedResource);
+
+        verify(storage, times(1)).writer(any(BlobInfo.class));
+        verify(state, times(1)).restore();
+        verify(failingWriter, times(0)).close();
+        verify(resumedWriter, times(1)).close();
+
+        assertEquals(List.of(0L, 3L), opened);
+        assertArrayEquals(expectedContent, uploaded.toByteArray());
+        assertEquals(HashingUtils.checksum(expectedContent), actualChecksum);
+    }
+
+    @Test
+    public void givenALargeResource_whenCallsStoreWithCompositeUploads_shouldUploadPartsAndCompose() throws Exception {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedResource = Resource.with(expectedContent, "a1b2c3d4", "video/mp4", "video");
+        final var expectedId = "videoId-123/type-VIDEO";
+        final var expectedParts = List.of(expectedId + ".part-0", expectedId + ".part-1");
+
+        this.target = new GCStorageService(bucket, storage, 3, 0, 4, 2);
+
+        final var uploads = new HashMap<String, ByteArrayOutputStream>();
+        final var writers = new HashMap<String, WriteChannel>();
+        for (final var part : expectedParts) {
+            uploads.put(part, new ByteArrayOutputStream());
+            writers.put(part, mockWriter(uploads.get(part), 0));
+        }
+        when(storage.writer(any(BlobInfo.class)))
+                .thenAnswer(it -> writers.get(((BlobInfo) it.getArgument(0)).getName()));
+
+        final var composed = Mockito.mock(Blob.class);
+        when(composed.getCrc32cToHexString()).thenReturn(HashingUtils.toBigEndianHex(expectedResource.checksum()));
+        when(storage.compose(any(Storage.ComposeRequest.class))).thenReturn(composed);
+
+        final var actualChecksum = this.target.store(expectedId, expectedResource);
+
+        final var composeCapturer = ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+        verify(storage, times(1)).compose(composeCapturer.capture());
+
+        final var actualCompose = composeCapturer.getValue();
+        assertEquals(expectedId, actualCompose.getTarget().getName());
+        assertEquals(
+                expectedParts,
+                actualCompose.getSourceBlobs().stream().map(Storage.ComposeRequest.SourceBlob::getName).toList()
+        );
+        assertArrayEquals("Cont".getBytes(), uploads.get(expectedParts.get(0)).toByteArray());
+        assertArrayEquals("eudo".getBytes(), uploads.get(expectedParts.get(1)).toByteArray());
+        assertEquals(expectedResource.checksum(), actualChecksum);
+
+        final var deleteCapturer = ArgumentCaptor.forClass(List.class);
+        verify(storage, times(1)).delete(deleteCapturer.capture());
+
+        final var actualDeleted = ((List<BlobId>) deleteCapturer.getValue()).stream()
+                .map(BlobId::getName)
+                .toList();
+        assertEquals(expectedParts, actualDeleted);
     }
 
     @Test
@@ -71,8 +224,35 @@ public class GCStorageAPITest {
 
         assertEquals(expectedResource.checksum(), actualContent.checksum());
         assertEquals(expectedResource.name(), actualContent.name());
-        assertEquals(expectedResource.content(), actualContent.content());
+        assertArrayEquals(expectedResource.content(), actualContent.content());
         assertEquals(expectedResource.contentType(), actualContent.contentType());
+        assertEquals(expectedResource.size(), actualContent.size());
+        verify(blob, times(0)).getContent();
+    }
+
+    @Test
+    public void givenResource_whenCallsGetAndOpensARange_shouldSeekAndLimitTheReader() throws Exception {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedId = expectedResource.name();
+        final var expectedOffset = 2L;
+        final var expectedLength = 3L;
+
+        final var reader = Mockito.mock(ReadChannel.class);
+        final var slice = Channels.newChannel(new ByteArrayInputStream(expectedResource.content(), 2, 3));
+        when(reader.read(any(ByteBuffer.class))).thenAnswer(it -> slice.read(it.getArgument(0)));
+
+        final Blob blob = mockBlob(expectedResource);
+        when(blob.reader()).thenReturn(reader);
+        doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
+
+        final var actualContent = target.get(expectedId).get();
+
+        try (final var in = actualContent.openStream(expectedOffset, expectedLength)) {
+            assertArrayEquals(Arrays.copyOfRange(expectedResource.content(), 2, 5), in.readAllBytes());
+        }
+
+        verify(reader, times(1)).seek(expectedOffset);
+        verify(reader, times(1)).limit(expectedOffset + expectedLength);
     }
 
     @Test
@@ -98,8 +278,13 @@ public class GCStorageAPITest {
         final Blob blob1 = mockBlob(video);
         final Blob blob2 = mockBlob(banner);
 
-        doReturn(List.of(blob1, blob2)).when(page).iterateAll();
-        doReturn(page).when(storage).list(eq(bucket), eq(Storage.BlobListOption.prefix("it")));
+        doReturn(List.of(blob1, blob2)).when(page).getValues();
+        doReturn(page).when(storage).list(
+                eq(bucket),
+                eq(Storage.BlobListOption.prefix("it")),
+                eq(Storage.BlobListOption.pageSize(1000)),
+                eq(Storage.BlobListOption.fields(Storage.BlobField.NAME))
+        );
 
         final var actualContent = target.list("it");
 
@@ -126,13 +311,280 @@ public class GCStorageAPITest {
         assertTrue(expectedIds.size() == actualIds.size() && actualIds.containsAll(expectedIds));
     }
 
+    @Test
+    public void givenManyIds_whenCallsDeleteAll_shouldDeleteThemInBatchesOfAHundred() {
+        final var expectedIds = new ArrayList<String>();
+        for (int i = 0; i < 250; i++) {
+            expectedIds.add("item" + i);
+        }
+
+        target.deleteAll(expectedIds);
+
+        final var capturer = ArgumentCaptor.forClass(List.class);
+
+        verify(storage, times(3)).delete(capturer.capture());
+
+        final var actualIds = capturer.getAllValues().stream()
+                .flatMap(it -> ((List<BlobId>) it).stream())
+                .map(BlobId::getName)
+                .toList();
+
+        assertEquals(List.of(100, 100, 50), capturer.getAllValues().stream().map(List::size).sorted(Comparator.reverseOrder()).toList());
+        assertTrue(expectedIds.size() == actualIds.size() && actualIds.containsAll(expectedIds));
+    }
+
+    @Test
+    public void givenPrefixWithManyPages_whenCallsDeleteByPrefix_shouldDeleteEachPageAsItArrives() {
+        final var firstPage = Mockito.mock(Page.class);
+        final var lastPage = Mockito.mock(Page.class);
+
+        final var id1 = BlobId.of(bucket, "videoId-1/a");
+        final var id2 = BlobId.of(bucket, "videoId-1/b");
+        final var id3 = BlobId.of(bucket, "videoId-1/c");
+
+        final var blob1 = namedBlob(id1);
+        final var blob2 = namedBlob(id2);
+        final var blob3 = namedBlob(id3);
+
+        doReturn(List.of(blob1, blob2)).when(firstPage).getValues();
+        doReturn(lastPage).when(firstPage).getNextPage();
+        doReturn(List.of(blob3)).when(lastPage).getValues();
+
+        doReturn(firstPage).when(storage).list(
+                eq(bucket),
+                eq(Storage.BlobListOption.prefix("videoId-1/")),
+                eq(Storage.BlobListOption.pageSize(100)),
+                eq(Storage.BlobListOption.fields(Storage.BlobField.NAME))
+        );
+
+        target.deleteByPrefix("videoId-1/");
+
+        verify(storage, times(1)).delete(List.of(id1, id2));
+        verify(storage, times(1)).delete(List.of(id3));
+    }
+
+    @Test
+    public void givenAVersion_whenCallsDeleteIfVersion_shouldDeleteWithGenerationAndMetagenerationPreconditions() {
+        final var expectedId = "blobs/abc";
+        final var blob = Mockito.mock(Blob.class);
+        when(blob.getGeneration()).thenReturn(7L);
+        when(blob.getMetageneration()).thenReturn(2L);
+        doReturn(blob).when(storage).get(eq(bucket), eq(expectedId), any(Storage.BlobGetOption.class));
+        when(storage.delete(any(BlobId.class), any(Storage.BlobSourceOption.class), any(Storage.BlobSourceOption.class)))
+                .thenReturn(true);
+
+        final var actualVersion = target.version(expectedId).get();
+        final var actualDeleted = target.deleteIfVersion(expectedId, actualVersion);
+
+        assertEquals("7:2", actualVersion);
+        assertTrue(actualDeleted);
+        verify(storage, times(1)).delete(
+                eq(BlobId.of(bucket, expectedId, 7L)),
+                eq(Storage.BlobSourceOption.generationMatch()),
+                eq(Storage.BlobSourceOption.metagenerationMatch(2L))
+        );
+    }
+
+    @Test
+    public void givenABlobTouchedSinceTheVersionWasRead_whenCallsDeleteIfVersion_shouldKeepIt() {
+        when(storage.delete(any(BlobId.class), any(Storage.BlobSourceOption.class), any(Storage.BlobSourceOption.class)))
+                .thenThrow(new StorageException(412, "Precondition Failed"));
+
+        assertFalse(target.deleteIfVersion("blobs/abc", "7:2"));
+    }
+
+    @Test
+    public void givenAMissingBlob_whenCallsTouch_shouldReturnFalse() {
+        when(storage.update(any(BlobInfo.class))).thenThrow(new StorageException(404, "Not Found"));
+
+        assertFalse(target.touch("blobs/abc"));
+    }
+
+    @Test
+    public void givenTransientFailure_whenCallsDeleteAll_shouldRetryTheBatch() {
+        final var expectedIds = List.of(BlobId.of(bucket, "item1"), BlobId.of(bucket, "item2"));
+
+        when(storage.delete(expectedIds))
+                .thenThrow(new StorageException(503, "Service Unavailable"))
+                .thenReturn(List.of(true, true));
+
+        target.deleteAll(List.of("item1", "item2"));
+
+        verify(storage, times(2)).delete(expectedIds);
+    }
+
+    @Test
+    public void givenPersistentFailure_whenCallsDeleteAll_shouldThrowAfterRetries() {
+        final var expectedIds = List.of(BlobId.of(bucket, "item1"));
+
+        when(storage.delete(expectedIds)).thenThrow(new StorageException(503, "Service Unavailable"));
+
+        assertThrows(InternalErrorException.class, () -> target.deleteAll(List.of("item1")));
+
+        verify(storage, times(3)).delete(expectedIds);
+    }
+
+    @Test
+    public void givenAFalseResultForAnObjectThatIsGone_whenCallsDeleteAll_shouldNotRetryIt() {
+        final var expectedIds = List.of(BlobId.of(bucket, "item1"), BlobId.of(bucket, "item2"));
+
+        when(storage.delete(expectedIds)).thenReturn(List.of(true, false));
+        doReturn(Arrays.asList((Blob) null)).when(storage).get(List.of(BlobId.of(bucket, "item2")));
+
+        target.deleteAll(List.of("item1", "item2"));
+
+        verify(storage, times(1)).delete(expectedIds);
+        verify(storage, times(1)).get(List.of(BlobId.of(bucket, "item2")));
+    }
+
+    @Test
+    public void givenAFalseResultForAnObjectStillStored_whenCallsDeleteAll_shouldRetryOnlyThatObject() {
+        final var expectedIds = List.of(BlobId.of(bucket, "item1"), BlobId.of(bucket, "item2"));
+        final var expectedRetry = List.of(BlobId.of(bucket, "item2"));
+
+        when(storage.delete(expectedIds)).thenReturn(List.of(true, false));
+        when(storage.delete(expectedRetry)).thenReturn(List.of(true));
+        doReturn(List.of(namedBlob(BlobId.of(bucket, "item2")))).when(storage).get(expectedRetry);
+
+        target.deleteAll(List.of("item1", "item2"));
+
+        verify(storage, times(1)).delete(expectedIds);
+        verify(storage, times(1)).delete(expectedRetry);
+    }
+
+    @Test
+    public void givenAnObjectThatIsNeverDeleted_whenCallsDeleteAll_shouldReportItAfterRetries() {
+        final var expectedIds = List.of(BlobId.of(bucket, "item1"));
+
+        when(storage.delete(expectedIds)).thenReturn(List.of(false));
+        doReturn(List.of(namedBlob(BlobId.of(bucket, "item1")))).when(storage).get(expectedIds);
+
+        final var actualException =
+                assertThrows(InternalErrorException.class, () -> target.deleteAll(List.of("item1")));
+
+        assertTrue(actualException.getCause().getMessage().contains("item1"));
+        verify(storage, times(3)).delete(expectedIds);
+    }
+
+    @Test
+    public void givenAShutdownService_whenCallsDeleteAll_shouldRejectIt() {
+        target.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> target.deleteAll(List.of("item1")));
+    }
+
+    @Test
+    public void givenFakeSigner_whenCallsSignedUrl_shouldSignAV4UrlOffline() {
+        // given
+        final var signingStorage = StorageOptions.newBuilder()
+                .setProjectId("test")
+                .setCredentials(new FakeSigner())
+                .build()
+                .getService();
+
+        final var target = new GCStorageService(bucket, signingStorage);
+
+        // when
+        final var actualUrl = target.signedUrl("blobs/abc", "video.mp4", Duration.ofMinutes(5)).orElseThrow();
+
+        // then
+        assertTrue(actualUrl.startsWith("https://storage.googleapis.com/test/blobs/abc?"));
+        assertTrue(actualUrl.contains("X-Goog-Algorithm=GOOG4-RSA-SHA256"));
+        assertTrue(actualUrl.contains("X-Goog-Expires=300"));
+        assertTrue(actualUrl.contains("X-Goog-Credential=signer%40test.iam.gserviceaccount.com"));
+        assertTrue(actualUrl.contains("response-content-disposition="));
+        assertTrue(actualUrl.contains("X-Goog-Signature=" + HexFormat.of().formatHex(FakeSigner.SIGNATURE)));
+        assertTrue(target.canSignDownloadUrls());
+    }
+
+    @Test
+    public void givenFakeSigner_whenCallsSignedUploadUrl_shouldSignAResumableStartOffline() {
+        // given
+        final var signingStorage = StorageOptions.newBuilder()
+                .setProjectId("test")
+                .setCredentials(new FakeSigner())
+                .build()
+                .getService();
+
+        final var target = new GCStorageService(bucket, signingStorage);
+
+        // when
+        final var actualUpload = target.signedUploadUrl("staging/upload-abc", "video/mp4", Duration.ofMinutes(15)).orElseThrow();
+
+        // then
+        assertEquals("POST", actualUpload.method());
+        assertEquals(Map.of("x-goog-resumable", "start", "Content-Type", "video/mp4"), actualUpload.headers());
+        assertTrue(actualUpload.url().startsWith("https://storage.googleapis.com/test/staging/upload-abc?"));
+        assertTrue(actualUpload.url().contains("X-Goog-Expires=900"));
+        assertTrue(actualUpload.url().contains("x-goog-resumable"));
+    }
+
+    @Test
+    public void givenCredentialsThatCannotSign_whenCallsSignedUrl_shouldReturnEmpty() {
+        // given
+        when(storage.signUrl(any(), eq(300L), eq(TimeUnit.SECONDS), any()))
+                .thenThrow(new IllegalStateException("Signing key was not provided"));
+
+        // when
+        final var actualUrl = target.signedUrl("blobs/abc", "video.mp4", Duration.ofMinutes(5));
+
+        // then
+        assertTrue(actualUrl.isEmpty());
+        assertFalse(target.canSignDownloadUrls());
+    }
+
+    private Blob namedBlob(final BlobId id) {
+        final var blob = Mockito.mock(Blob.class);
+        when(blob.getBlobId()).thenReturn(id);
+        return blob;
+    }
+
     private Blob mockBlob(final Resource resource) {
         final var blob1 = Mockito.mock(Blob.class);
         when(blob1.getBlobId()).thenReturn(BlobId.of(bucket, resource.name()));
-        when(blob1.getCrc32cToHexString()).thenReturn(resource.checksum());
-        when(blob1.getContent()).thenReturn(resource.content());
+        when(blob1.getCrc32cToHexString()).thenReturn(HashingUtils.toBigEndianHex(resource.checksum()));
+        when(blob1.getSize()).thenReturn((long) resource.content().length);
+        when(blob1.reader()).thenAnswer(it -> mockReader(resource.content()));
         when(blob1.getContentType()).thenReturn(resource.contentType());
         when(blob1.getName()).thenReturn(resource.name());
         return blob1;
     }
+
+    private ReadChannel mockReader(final byte[] content) throws IOException {
+        final var reader = Mockito.mock(ReadChannel.class);
+        final var source = Channels.newChannel(new ByteArrayInputStream(content));
+        when(reader.read(any(ByteBuffer.class))).thenAnswer(it -> source.read(it.getArgument(0)));
+        return reader;
+    }
+
+    private WriteChannel mockWriter(final ByteArrayOutputStream uploaded, final int failingWrite) throws IOException {
+        final var writer = Mockito.mock(WriteChannel.class);
+        final var writes = new AtomicInteger();
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(it -> {
+            if (writes.incrementAndGet() == failingWrite) {
+                throw new StorageException(503, "Service Unavailable");
+            }
+            final ByteBuffer src = it.getArgument(0);
+            final var bytes = new byte[src.remaining()];
+            src.get(bytes);
+            uploaded.write(bytes);
+            return bytes.length;
+        });
+        return writer;
+    }
+
+    private static class FakeSigner extends GoogleCredentials implements ServiceAccountSigner {
+
+        private static final byte[] SIGNATURE = {1, 2, 3, 4};
+
+        @Override
+        public String getAccount() {
+            return "signer@test.iam.gserviceaccount.com";
+        }
+
+        @Override
+        public byte[] sign(final byte[] toSign) {
+            return SIGNATURE;
+        }
+    }
 }
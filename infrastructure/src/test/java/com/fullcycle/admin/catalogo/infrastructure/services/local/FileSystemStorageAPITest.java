@@ -0,0 +1,183 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileSystemStorageAPITest {
+
+    @TempDir
+    private Path root;
+
+    private FileSystemStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new FileSystemStorageService(root);
+    }
+
+    @Test
+    public void givenStreamedResource_whenCallsStore_shouldWriteItAndComputeTheChecksum() {
+        final var expectedContent = "123456789".getBytes();
+        final var expectedChecksum = "839206e3";
+        final var expectedId = "videoId-123/type-VIDEO";
+
+        final var actualChecksum = target.store(expectedId, streamed(expectedContent));
+
+        assertEquals(expectedChecksum, actualChecksum);
+        assertTrue(Files.exists(root.resolve(expectedId)));
+
+        final var actualResource = target.get(expectedId).get();
+
+        assertTrue(actualResource.isStreamed());
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals(expectedChecksum, actualResource.checksum());
+        assertEquals(expectedContent.length, actualResource.size());
+        assertEquals("video/mp4", actualResource.contentType());
+        assertEquals("video.mp4", actualResource.name());
+    }
+
+    @Test
+    public void givenStoredResource_whenCallsTransferTo_shouldWriteOnlyTheRange() {
+        final var expectedId = "videoId-123/type-VIDEO";
+        target.store(expectedId, streamed("0123456789".getBytes()));
+
+        final var out = new ByteArrayOutputStream();
+        final var transferred = target.get(expectedId).get().transferTo(2, 5, Channels.newChannel(out));
+
+        assertEquals(5, transferred);
+        assertEquals("23456", out.toString());
+    }
+
+    @Test
+    public void givenAStoreOfTheSameIdWhileAnotherIsWriting_whenBothFinish_shouldKeepOneWholeResource() {
+        final var expectedId = "videoId-123/type-VIDEO";
+        final var expectedContent = "0123456789".getBytes();
+        final var otherContent = "abcdefghij".getBytes();
+
+        // the second store runs to completion while the first one is halfway through writing
+        final var interleaved = Resource.with(
+                () -> new SequenceInputStream(
+                        new ByteArrayInputStream(expectedContent, 0, 5),
+                        new InputStream() {
+                            private InputStream rest;
+
+                            @Override
+                            public int read() throws IOException {
+                                if (rest == null) {
+                                    target.store(expectedId, streamed(otherContent));
+                                    rest = new ByteArrayInputStream(expectedContent, 5, 5);
+                                }
+                                return rest.read();
+                            }
+                        }
+                ),
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        final var actualChecksum = target.store(expectedId, interleaved);
+
+        final var actualResource = target.get(expectedId).get();
+
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals(actualChecksum, actualResource.checksum());
+        assertEquals(List.of(expectedId), target.list("videoId-123"));
+    }
+
+    @Test
+    public void givenStoredResource_whenCallsStore_shouldPublishTheContentAndItsMetadataAsOneFile() throws IOException {
+        final var expectedId = "videoId-123/type-VIDEO";
+        target.store(expectedId, streamed("0123456789".getBytes()));
+
+        target.store(expectedId, Resource.with("abc".getBytes(), "c1a2b3", "image/png", "banner.png"));
+
+        final var actualResource = target.get(expectedId).get();
+
+        assertArrayEquals("abc".getBytes(), actualResource.content());
+        assertArrayEquals("bc".getBytes(), actualResource.source().open(1, 10).readAllBytes());
+        assertEquals(3, actualResource.size());
+        assertEquals("c1a2b3", actualResource.checksum());
+        assertEquals("image/png", actualResource.contentType());
+        assertEquals("banner.png", actualResource.name());
+        try (final var files = Files.list(root.resolve("videoId-123"))) {
+            assertEquals(List.of(root.resolve(expectedId)), files.toList());
+        }
+    }
+
+    @Test
+    public void givenResourceStoredWithItsMetadataBesideIt_whenCallsGet_shouldStillReadIt() throws IOException {
+        final var expectedId = "videoId-123/type-VIDEO";
+        Files.createDirectories(root.resolve("videoId-123"));
+        Files.write(root.resolve(expectedId), "123456789".getBytes());
+        Files.writeString(
+                root.resolve(expectedId + ".meta"),
+                "checksum=839206e3\ncontentType=video/mp4\nname=video.mp4\n"
+        );
+
+        final var actualResource = target.get(expectedId).get();
+
+        assertArrayEquals("123456789".getBytes(), actualResource.content());
+        assertEquals("839206e3", actualResource.checksum());
+        assertEquals("video/mp4", actualResource.contentType());
+        assertEquals(List.of(expectedId), target.list("videoId-123"));
+    }
+
+    @Test
+    public void givenInvalidResource_whenCallsGet_shouldRetrieveEmpty() {
+        assertTrue(target.get("videoId-123/type-VIDEO").isEmpty());
+    }
+
+    @Test
+    public void givenPrefix_whenCallsList_shouldRetrieveOnlyStoredResources() {
+        target.store("videoId-123/type-VIDEO", streamed("1".getBytes()));
+        target.store("videoId-123/type-TRAILER", streamed("2".getBytes()));
+        target.store("videoId-456/type-VIDEO", streamed("3".getBytes()));
+
+        final var expectedIds = List.of("videoId-123/type-VIDEO", "videoId-123/type-TRAILER");
+
+        final var actualIds = target.list("videoId-123");
+
+        assertTrue(expectedIds.size() == actualIds.size() && expectedIds.containsAll(actualIds));
+    }
+
+    @Test
+    public void givenResources_whenCallsDeleteAll_shouldRemoveThemAndTheirFolder() {
+        target.store("videoId-123/type-VIDEO", streamed("1".getBytes()));
+        target.store("videoId-123/type-TRAILER", streamed("2".getBytes()));
+
+        target.deleteAll(List.of("videoId-123/type-VIDEO", "videoId-123/type-TRAILER"));
+
+        assertTrue(target.list("videoId-123").isEmpty());
+        assertFalse(Files.exists(root.resolve("videoId-123")));
+    }
+
+    @Test
+    public void givenIdOutsideRoot_whenCallsStore_shouldThrowError() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> target.store("../escape", streamed("1".getBytes()))
+        );
+    }
+
+    private static Resource streamed(final byte[] content) {
+        return Resource.with(() -> new ByteArrayInputStream(content), content.length, "video/mp4", "video.mp4");
+    }
+}
@@ -1,13 +1,18 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import java.io.ByteArrayInputStream;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class InMemoryStorageAPITest {
@@ -31,6 +36,29 @@ public class InMemoryStorageAPITest {
         assertEquals(expectedResource, actualContent);
     }
 
+    @Test
+    public void givenStreamedResource_whenCallsStore_shouldBufferItsContent() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "a1b2c3d4",
+                "image/jpg",
+                "thumbnail"
+        );
+        final var expectedId = "item";
+
+        target.store(expectedId, expectedResource);
+
+        final var actualContent = this.target.storage().get(expectedId);
+
+        assertFalse(actualContent.isStreamed());
+        assertArrayEquals(expectedContent, actualContent.content());
+        assertEquals(expectedResource.checksum(), actualContent.checksum());
+        assertEquals(expectedResource.contentType(), actualContent.contentType());
+        assertEquals(expectedResource.name(), actualContent.name());
+    }
+
     @Test
     public void givenResource_whenCallsGet_shouldRetrieveIt() {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
@@ -85,4 +113,81 @@ public class InMemoryStorageAPITest {
 
         assertTrue(this.target.storage().isEmpty());
     }
+
+    @Test
+    public void givenSiblingPrefixes_whenCallsList_shouldRetrieveOnlyMatchingKeysInOrder() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+        this.target.storage().put("videoId-1/type-VIDEO", expectedResource);
+        this.target.storage().put("videoId-1/type-BANNER", expectedResource);
+        this.target.storage().put("videoId-10/type-VIDEO", expectedResource);
+        this.target.storage().put("videoId-2/type-VIDEO", expectedResource);
+
+        final var actualContent = target.list("videoId-1/");
+
+        assertEquals(List.of("videoId-1/type-BANNER", "videoId-1/type-VIDEO"), actualContent);
+    }
+
+    @Test
+    public void givenScatteredIds_whenCallsDeleteAll_shouldDeleteOnlyThem() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+        List.of("a", "b", "c", "d", "e", "f").forEach(it -> this.target.storage().put(it, expectedResource));
+
+        target.deleteAll(List.of("e", "b", "a", "missing", "f"));
+
+        assertEquals(List.of("c", "d"), List.copyOf(this.target.storage().keySet()));
+    }
+
+    @Test
+    public void givenAKeyStoredBetweenTheRequestedIds_whenCallsDeleteAllConcurrently_shouldKeepIt() throws Exception {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedIds = List.of("a", "c");
+
+        final var lost = new AtomicInteger();
+
+        final var writer = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                this.target.storage().remove("b");
+                expectedIds.forEach(it -> this.target.storage().put(it, expectedResource));
+                this.target.storage().put("b", expectedResource);
+                Thread.yield();
+                if (!this.target.storage().containsKey("b")) {
+                    lost.incrementAndGet();
+                }
+            }
+        });
+
+        writer.start();
+        while (writer.isAlive()) {
+            target.deleteAll(expectedIds);
+        }
+        writer.join();
+
+        assertEquals(0, lost.get());
+    }
+
+    @Test
+    public void givenRange_whenCallsDeleteRange_shouldDeleteKeysWithinBounds() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+        List.of("a", "b", "c", "d").forEach(it -> this.target.storage().put(it, expectedResource));
+
+        target.deleteRange("b", "c");
+
+        assertEquals(List.of("a", "d"), List.copyOf(this.target.storage().keySet()));
+    }
+
+    @Test
+    public void givenSiblingPrefixes_whenCallsDeleteByPrefix_shouldDeleteOnlyMatchingKeys() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+        this.target.storage().put("videoId-1/type-VIDEO", expectedResource);
+        this.target.storage().put("videoId-1/type-BANNER", expectedResource);
+        this.target.storage().put("videoId-10/type-VIDEO", expectedResource);
+
+        target.deleteByPrefix("videoId-1/");
+
+        assertEquals(List.of("videoId-10/type-VIDEO"), List.copyOf(this.target.storage().keySet()));
+    }
 }
@@ -0,0 +1,129 @@
+package com.fullcycle.admin.catalogo.infrastructure.uploads;
+
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UploadBudgetFilterTest {
+
+    private UploadBudget budget;
+
+    private UploadBudgetFilter target;
+
+    @BeforeEach
+    public void setUp() {
+        this.budget = new UploadBudget(100);
+        this.target = new UploadBudgetFilter(budget, 7);
+    }
+
+    @Test
+    public void givenUploadWithinBudget_whenFiltered_shouldHoldItsBytesUntilHandled() throws Exception {
+        // given
+        final var inFlightWhileHandled = new AtomicLong();
+        final var chain = new MockFilterChain() {
+            @Override
+            public void doFilter(final ServletRequest req, final ServletResponse res) {
+                inFlightWhileHandled.set(budget.inFlightBytes());
+            }
+        };
+
+        // when
+        final var response = new MockHttpServletResponse();
+        target.doFilter(multipart(60), response, chain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals(60, inFlightWhileHandled.get());
+        assertEquals(0, budget.inFlightBytes());
+    }
+
+    @Test
+    public void givenExhaustedBudget_whenUploadArrives_shouldRejectWithRetryAfter() throws Exception {
+        // given
+        assertTrue(budget.tryAcquire(60));
+
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        // when
+        target.doFilter(multipart(50), response, chain);
+
+        // then
+        assertEquals(503, response.getStatus());
+        assertEquals("7", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(chain.getRequest());
+        assertEquals(60, budget.inFlightBytes());
+    }
+
+    @Test
+    public void givenIdleNode_whenUploadExceedsBudget_shouldStillAdmitIt() throws Exception {
+        // given
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        // when
+        target.doFilter(multipart(500), response, chain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(0, budget.inFlightBytes());
+    }
+
+    @Test
+    public void givenNonMultipartRequest_whenBudgetIsExhausted_shouldPassThrough() throws Exception {
+        // given
+        assertTrue(budget.tryAcquire(100));
+
+        final var request = new MockHttpServletRequest("POST", "/videos");
+        request.setContentType("application/json");
+        request.setContent(new byte[50]);
+
+        final var chain = new MockFilterChain();
+
+        // when
+        target.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertNotNull(chain.getRequest());
+        assertEquals(100, budget.inFlightBytes());
+    }
+
+    @Test
+    public void givenUnknownLength_whenAnotherUploadIsInFlight_shouldReject() throws Exception {
+        // given
+        assertTrue(budget.tryAcquire(1));
+
+        final var request = new MockHttpServletRequest("POST", "/videos");
+        request.setContentType("multipart/form-data; boundary=x");
+
+        final var response = new MockHttpServletResponse();
+
+        // when
+        target.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertEquals(503, response.getStatus());
+        assertFalse(budget.tryAcquire(100));
+    }
+
+    private static MockHttpServletRequest multipart(final int size) {
+        final var request = new MockHttpServletRequest("POST", "/videos");
+        request.setContentType("multipart/form-data; boundary=x");
+        request.setContent(new byte[size]);
+        return request;
+    }
+}
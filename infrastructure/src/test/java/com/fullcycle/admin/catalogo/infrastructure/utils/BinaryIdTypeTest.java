@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BinaryIdTypeTest {
+
+    @Test
+    public void givenAnId_whenCallsBytesOf_shouldStoreItInSixteenBytesAndReadItBack() {
+        // given
+        final var expectedId = IdUtils.uuid();
+
+        // when
+        final var actualBytes = BinaryIdType.bytesOf(expectedId);
+
+        // then
+        Assertions.assertEquals(16, actualBytes.length);
+        Assertions.assertEquals(expectedId, BinaryIdType.hexOf(actualBytes));
+    }
+
+    @Test
+    public void givenTwoIds_whenComparesTheirBytes_shouldKeepTheOrderOfTheHexStrings() {
+        // given
+        final var first = "0f000000000000000000000000000000";
+        final var second = "a0000000000000000000000000000000";
+
+        // when
+        final var actualOrder = Arrays.compareUnsigned(BinaryIdType.bytesOf(first), BinaryIdType.bytesOf(second));
+
+        // then
+        Assertions.assertTrue(first.compareTo(second) < 0);
+        Assertions.assertTrue(actualOrder < 0);
+    }
+
+    @Test
+    public void givenAnIdThatIsNotHex_whenCallsBytesOf_shouldThrowIllegalArgumentException() {
+        // given
+        final var expectedIds = List.of("123", "invalid", "z".repeat(32), "0".repeat(31));
+
+        for (final var anId : expectedIds) {
+            // when
+            final var actualException =
+                    Assertions.assertThrows(IllegalArgumentException.class, () -> BinaryIdType.bytesOf(anId));
+
+            // then
+            Assertions.assertFalse(BinaryIdType.isId(anId));
+            Assertions.assertEquals("'%s' is not an id of 32 hex digits".formatted(anId), actualException.getMessage());
+        }
+    }
+}
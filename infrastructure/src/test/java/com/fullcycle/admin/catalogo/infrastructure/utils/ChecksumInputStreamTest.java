@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.io.ByteArrayInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ChecksumInputStreamTest {
+
+    @Test
+    public void givenAStreamThatIsPartlySkipped_whenCallsChecksum_shouldStillCoverTheSkippedBytes() throws Exception {
+        // given
+        final var expectedContent = "123456789".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+
+        // when
+        final var in = new ChecksumInputStream(new ByteArrayInputStream(expectedContent));
+        final var actualSkipped = in.skip(4);
+        final var actualRest = in.readAllBytes();
+
+        // then
+        Assertions.assertEquals(4, actualSkipped);
+        Assertions.assertArrayEquals("56789".getBytes(), actualRest);
+        Assertions.assertEquals(expectedChecksum, in.checksum());
+    }
+
+    @Test
+    public void givenASkipPastTheEnd_whenCallsSkip_shouldReturnTheBytesLeftAndFinishTheStream() throws Exception {
+        // given
+        final var expectedContent = "123".getBytes();
+
+        // when
+        final var in = new ChecksumInputStream(new ByteArrayInputStream(expectedContent));
+        final var actualSkipped = in.skip(10);
+
+        // then
+        Assertions.assertEquals(3, actualSkipped);
+        Assertions.assertTrue(in.isFinished());
+        Assertions.assertEquals(HashingUtils.checksum(expectedContent), in.checksum());
+    }
+
+    @Test
+    public void givenAChecksum_whenConvertsToBigEndianAndBack_shouldKeepTheStoredByteOrder() {
+        // given
+        final var expectedChecksum = HashingUtils.checksum("123456789".getBytes());
+
+        // when
+        final var actualBigEndian = HashingUtils.toBigEndianHex(expectedChecksum);
+
+        // then
+        Assertions.assertEquals("839206e3", expectedChecksum);
+        Assertions.assertEquals("e3069283", actualBigEndian);
+        Assertions.assertEquals(expectedChecksum, HashingUtils.fromBigEndianHex(actualBigEndian));
+    }
+}
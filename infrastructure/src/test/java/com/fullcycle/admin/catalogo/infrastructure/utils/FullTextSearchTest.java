@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FullTextSearchTest {
+
+    @Test
+    public void givenTermsWithOperatorsAndShortWords_whenCallsAgainst_shouldRequireEachIndexedWordAsAPrefix() {
+        // given
+        final var expectedAgainst = "+Sistemas* +distribuídos* +DTO*";
+
+        // when
+        final var actualAgainst = FullTextSearch.against("Sistemas -distribuídos (de) \"DTO\"*");
+
+        // then
+        Assertions.assertEquals(expectedAgainst, actualAgainst);
+    }
+
+    @Test
+    public void givenOnlyShortWords_whenCallsAgainst_shouldReturnEmpty() {
+        // when
+        final var actualAgainst = FullTextSearch.against("a de ++");
+
+        // then
+        Assertions.assertTrue(actualAgainst.isEmpty());
+    }
+
+    @Test
+    public void givenTermsWithShortWords_whenCallsShortWords_shouldReturnTheWordsTheIndexDoesNotHold() {
+        // when
+        final var actualShortWords = FullTextSearch.shortWords("Sistemas -de (a) \"DTO\"*");
+
+        // then
+        Assertions.assertEquals("de a", actualShortWords);
+    }
+
+    @Test
+    public void givenColumnsAndTerms_whenRendersMatchFunction_shouldRenderMatchAgainstInBooleanMode() {
+        // given
+        final var expectedSql = "MATCH(v.title, v.description) AGAINST(? IN BOOLEAN MODE)";
+
+        // when
+        final var actualSql = new FullTextMatchFunction().render(null, List.of("v.title", "v.description", "?"), null);
+
+        // then
+        Assertions.assertEquals(expectedSql, actualSql);
+    }
+}
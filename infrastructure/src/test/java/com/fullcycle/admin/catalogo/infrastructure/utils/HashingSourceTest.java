@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HashingSourceTest {
+
+    @Test
+    public void givenAResumedRead_whenCallsSha256_shouldHashEveryByteOnceWithoutReadingAgain() throws Exception {
+        // given
+        final var expectedContent = "0123456789abcdef".getBytes();
+        final var readBytes = new AtomicLong();
+        final var target = new HashingSource(counted(expectedContent, readBytes), expectedContent.length);
+
+        // when
+        try (final var in = target.open(0, 10)) {
+            in.readAllBytes();
+        }
+        try (final var in = target.open(6, 10)) {
+            in.readAllBytes();
+        }
+        final var readWhileStoring = readBytes.get();
+        final var actualHash = target.sha256();
+
+        // then
+        Assertions.assertEquals(HashingUtils.sha256(new ByteArrayInputStream(expectedContent)), actualHash);
+        Assertions.assertEquals(readWhileStoring, readBytes.get());
+    }
+
+    @Test
+    public void givenPartsReadOutOfOrder_whenCallsSha256_shouldOnlyReadWhatWasNotHashedYet() throws Exception {
+        // given
+        final var expectedContent = "0123456789abcdef".getBytes();
+        final var readBytes = new AtomicLong();
+        final var target = new HashingSource(counted(expectedContent, readBytes), expectedContent.length);
+
+        // when
+        try (final var in = target.open(8, 8)) {
+            in.readAllBytes();
+        }
+        try (final var in = target.open(0, 8)) {
+            in.readAllBytes();
+        }
+        final var readWhileStoring = readBytes.get();
+        final var actualHash = target.sha256();
+
+        // then
+        Assertions.assertEquals(HashingUtils.sha256(new ByteArrayInputStream(expectedContent)), actualHash);
+        Assertions.assertEquals(readWhileStoring + 8, readBytes.get());
+    }
+
+    private static Resource.Source counted(final byte[] content, final AtomicLong readBytes) {
+        return new Resource.Source() {
+            @Override
+            public InputStream open() {
+                return open(0, content.length);
+            }
+
+            @Override
+            public InputStream open(final long offset, final long length) {
+                readBytes.addAndGet(length);
+                return new ByteArrayInputStream(content, (int) offset, (int) length);
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IdGeneratorTest {
+
+    @AfterEach
+    public void tearDown() {
+        IdUtils.use(IdUtils.Generator.RANDOM);
+    }
+
+    @Test
+    public void givenTimeOrderedGenerator_whenCallsInstall_shouldCreateVersion7Ids() {
+        // when
+        try (final var actualGenerator = IdGenerator.install(IdUtils.Generator.TIME_ORDERED)) {
+
+            // then
+            Assertions.assertEquals(IdUtils.Generator.TIME_ORDERED, actualGenerator.generator());
+            Assertions.assertEquals('7', IdUtils.uuid().charAt(12));
+        }
+    }
+
+    @Test
+    public void givenAnInstalledGenerator_whenCallsClose_shouldPutBackThePreviousGenerator() {
+        // given
+        final var actualGenerator = IdGenerator.install(IdUtils.Generator.TIME_ORDERED);
+
+        // when
+        actualGenerator.close();
+
+        // then
+        Assertions.assertEquals(IdUtils.Generator.RANDOM, IdUtils.generator());
+        Assertions.assertEquals('4', IdUtils.uuid().charAt(12));
+    }
+}
@@ -0,0 +1,203 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class InMemoryTextSearchTest {
+
+    private static final Specification<Object> DELEGATED = (root, query, cb) -> null;
+
+    @Test
+    public void givenLoadedIndex_whenCallsMatching_shouldFilterByTheMatchingIds() {
+        // given
+        final var documents = new ArrayList<>(List.of(
+                new NgramIndex.Document("1", "Aulas"),
+                new NgramIndex.Document("2", "Lives")
+        ));
+        final var target = search(documents, 10);
+        target.load();
+
+        // when
+        final var actualSpecification = target.matching("aul");
+
+        // then
+        Assertions.assertEquals(Set.of("1"), idsOf(actualSpecification));
+    }
+
+    @Test
+    public void givenGatewayWrites_whenCallsMatching_shouldSeeThemWithoutReloading() {
+        // given
+        final var documents = new ArrayList<>(List.of(new NgramIndex.Document("1", "Aulas")));
+        final var target = search(documents, 10);
+        target.load();
+
+        // when
+        target.put(new NgramIndex.Document("2", "Aulas ao vivo"));
+        target.remove("1");
+
+        // then
+        Assertions.assertEquals(Set.of("2"), idsOf(target.matching("aulas")));
+    }
+
+    @Test
+    public void givenGatewayWritesInATransaction_whenItCommits_shouldSeeThemOnlyThen() {
+        // given
+        final var documents = new ArrayList<>(List.of(new NgramIndex.Document("1", "Aulas")));
+        final var target = search(documents, 10);
+        target.load();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            target.put(new NgramIndex.Document("2", "Aulas ao vivo"));
+            target.remove("1");
+
+            final var beforeCommit = idsOf(target.matching("aulas"));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            final var afterCommit = idsOf(target.matching("aulas"));
+
+            // then
+            Assertions.assertEquals(Set.of("1"), beforeCommit);
+            Assertions.assertEquals(Set.of("2"), afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void givenGatewayWritesInATransaction_whenItRollsBack_shouldNeverSeeThem() {
+        // given
+        final var documents = new ArrayList<>(List.of(new NgramIndex.Document("1", "Aulas")));
+        final var target = search(documents, 10);
+        target.load();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            target.put(new NgramIndex.Document("2", "Aulas ao vivo"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        Assertions.assertEquals(Set.of("1"), idsOf(target.matching("aulas")));
+    }
+
+    @Test
+    public void givenWritesMadeElsewhere_whenLoadsAgain_shouldMatchThem() {
+        // given
+        final var documents = new ArrayList<>(List.of(new NgramIndex.Document("1", "Aulas")));
+        final var target = search(documents, 10);
+        target.load();
+
+        documents.add(new NgramIndex.Document("2", "Aulas ao vivo"));
+
+        // when
+        final var beforeLoad = idsOf(target.matching("aulas"));
+        target.load();
+        final var afterLoad = idsOf(target.matching("aulas"));
+
+        // then
+        Assertions.assertEquals(Set.of("1"), beforeLoad);
+        Assertions.assertEquals(Set.of("1", "2"), afterLoad);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void givenAnIndexNotLoadedYet_whenCallsMatching_shouldDelegateWithoutLoadingIt() {
+        // given
+        final var loads = new AtomicInteger();
+        final TextSearch<Object> delegate = mock(TextSearch.class);
+        when(delegate.matching(Mockito.anyString())).thenReturn(DELEGATED);
+
+        final var target = new InMemoryTextSearch<>(
+                "categories",
+                true,
+                delegate,
+                () -> {
+                    loads.incrementAndGet();
+                    return List.of(new NgramIndex.Document("1", "Aulas"));
+                },
+                () -> 1,
+                10
+        );
+
+        // when
+        final var actualSpecification = target.matching("aul");
+
+        // then
+        Assertions.assertSame(DELEGATED, actualSpecification);
+        Assertions.assertEquals(0, loads.get());
+    }
+
+    @Test
+    public void givenTableOverMaxEntries_whenCallsMatching_shouldDelegateToTheDatabase() {
+        // given
+        final var documents = new ArrayList<>(List.of(
+                new NgramIndex.Document("1", "Aulas"),
+                new NgramIndex.Document("2", "Lives")
+        ));
+        final var target = search(documents, 1);
+        target.load();
+
+        // when
+        final var actualSpecification = target.matching("aul");
+
+        // then
+        Assertions.assertSame(DELEGATED, actualSpecification);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static InMemoryTextSearch<Object> search(
+            final List<NgramIndex.Document> documents,
+            final long maxEntries
+    ) {
+        final TextSearch<Object> delegate = mock(TextSearch.class);
+        when(delegate.matching(Mockito.anyString())).thenReturn(DELEGATED);
+
+        return new InMemoryTextSearch<>(
+                "categories",
+                true,
+                delegate,
+                () -> List.copyOf(documents),
+                documents::size,
+                maxEntries
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> idsOf(final Specification<Object> aSpecification) {
+        final Root<Object> root = mock(Root.class);
+        final Path<Object> id = mock(Path.class);
+        doReturn(id).when(root).get(KeysetCursor.ID);
+
+        aSpecification.toPredicate(root, mock(CriteriaQuery.class), mock(CriteriaBuilder.class));
+
+        final ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(id, times(1)).in(captor.capture());
+        return Set.copyOf(captor.getValue());
+    }
+}
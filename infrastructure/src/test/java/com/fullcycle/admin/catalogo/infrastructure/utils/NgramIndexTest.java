@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NgramIndexTest {
+
+    @Test
+    public void givenIndexedDocuments_whenCallsSearch_shouldReturnIdsContainingTheTermsInAnyText() {
+        // given
+        final var index = new NgramIndex();
+        index.put(new NgramIndex.Document("1", "Documentários", null));
+        index.put(new NgramIndex.Document("2", "Filmes", "Os mais assistidos, até documentarios"));
+        index.put(new NgramIndex.Document("3", "Séries"));
+
+        // when
+        final var actualIds = index.search("DOCUMENTÁRIO");
+
+        // then
+        Assertions.assertEquals(Set.of("1", "2"), actualIds);
+        Assertions.assertEquals(Set.of("3"), index.search("ser"));
+        Assertions.assertEquals(Set.of("2"), index.search("s, a"));
+        Assertions.assertEquals(Set.of(), index.search("docs"));
+    }
+
+    @Test
+    public void givenTermsShorterThanAGram_whenCallsSearch_shouldCheckEveryDocument() {
+        // given
+        final var index = new NgramIndex();
+        index.put(new NgramIndex.Document("1", "Ação"));
+        index.put(new NgramIndex.Document("2", "Drama"));
+
+        // when
+        final var actualIds = index.search("a");
+
+        // then
+        Assertions.assertEquals(Set.of("1", "2"), actualIds);
+        Assertions.assertEquals(Set.of("1"), index.search("ac"));
+    }
+
+    @Test
+    public void givenAWordPrefixIndex_whenCallsSearch_shouldReturnIdsWhereEveryWordStartsAWordOfAnyText() {
+        // given
+        final var index = new NgramIndex(true);
+        index.put(new NgramIndex.Document("1", "Documentários", null));
+        index.put(new NgramIndex.Document("2", "Filmes", "Os mais assistidos, até documentarios"));
+        index.put(new NgramIndex.Document("3", "Ação"));
+
+        // when
+        final var actualIds = index.search("DOCUMENTÁRIO");
+
+        // then
+        Assertions.assertEquals(Set.of("1", "2"), actualIds);
+        Assertions.assertEquals(Set.of("2"), index.search("mais, a"));
+        Assertions.assertEquals(Set.of(), index.search("mentarios"));
+        Assertions.assertEquals(Set.of("2", "3"), index.search("a"));
+    }
+
+    @Test
+    public void givenUpdatedAndRemovedDocuments_whenCallsSearch_shouldOnlyMatchTheCurrentTexts() {
+        // given
+        final var index = new NgramIndex();
+        index.put(new NgramIndex.Document("1", "Terror"));
+        index.put(new NgramIndex.Document("2", "Suspense"));
+
+        // when
+        index.put(new NgramIndex.Document("1", "Comédia"));
+        index.remove("2");
+
+        // then
+        Assertions.assertEquals(Set.of(), index.search("terror"));
+        Assertions.assertEquals(Set.of(), index.search("suspense"));
+        Assertions.assertEquals(Set.of("1"), index.search("comedia"));
+        Assertions.assertEquals(1, index.size());
+    }
+}
@@ -3,12 +3,23 @@ package com.fullcycle.admin.catalogo.infrastructure.video;
 import com.fullcycle.admin.catalogo.IntegrationTest;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.StorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,9 +38,13 @@ class DefaultMediaResourceGatewayTest {
     @Autowired
     private StorageService storageService;
 
+    @Autowired
+    private ImageResourceCache imageResourceCache;
+
     @BeforeEach
     public void setUp() {
         storageService().clear();
+        imageResourceCache.clear();
     }
 
     @Test
@@ -47,7 +62,8 @@ class DefaultMediaResourceGatewayTest {
         final var expectedVideoId = VideoID.unique();
         final var expectedType = VideoMediaType.VIDEO;
         final var expectedResource = resource(expectedType);
-        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+        final var expectedLocation = blobOf(expectedResource.content());
+        final var expectedPointer = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
         final var expectedStatus = MediaStatus.PENDING;
         final var expectedEncodedLocation = "";
 
@@ -66,6 +82,46 @@ class DefaultMediaResourceGatewayTest {
         final var actualStored = storageService().storage().get(expectedLocation);
 
         Assertions.assertEquals(expectedResource, actualStored);
+        Assertions.assertArrayEquals(
+                expectedLocation.getBytes(StandardCharsets.UTF_8),
+                storageService().storage().get(expectedPointer).content()
+        );
+    }
+
+    @Test
+    public void givenStreamedResourceWithoutChecksum_whenCallsStorageAudioVideo_shouldComputeCrc32cWhileStoring() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedContent = "123456789".getBytes();
+        final var expectedChecksum = "839206e3";
+        final var expectedLocation = blobOf(expectedContent);
+        final var opened = new AtomicInteger();
+
+        final var aResource = Resource.with(
+                () -> {
+                    opened.incrementAndGet();
+                    return new ByteArrayInputStream(expectedContent);
+                },
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        // when
+        final var actualMedia =
+                this.mediaResourceGateway.storeAudioVideo(expectedVideoId, VideoResource.with(expectedType, aResource));
+
+        // then
+        Assertions.assertEquals(expectedChecksum, actualMedia.checksum());
+        Assertions.assertEquals(expectedLocation, actualMedia.rawLocation());
+        // hashed while it uploads, in a single read
+        Assertions.assertEquals(1, opened.get());
+
+        final var actualStored = storageService().storage().get(expectedLocation);
+
+        Assertions.assertArrayEquals(expectedContent, actualStored.content());
+        Assertions.assertEquals(expectedChecksum, actualStored.checksum());
     }
 
     @Test
@@ -74,7 +130,7 @@ class DefaultMediaResourceGatewayTest {
         final var expectedVideoId = VideoID.unique();
         final var expectedType = VideoMediaType.BANNER;
         final var expectedResource = resource(expectedType);
-        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+        final var expectedLocation = blobOf(expectedResource.content());
 
         // when
         final var actualMedia =
@@ -130,6 +186,145 @@ class DefaultMediaResourceGatewayTest {
         Assertions.assertTrue(actualResult.isEmpty());
     }
 
+    @Test
+    public void givenStorageWithoutSignedUrls_whenCallsGetDownloadUrl_shouldFallBackToProxying() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = resource(expectedType);
+
+        this.mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(expectedType, expectedResource));
+
+        // when
+        final var actualUrl = this.mediaResourceGateway.getDownloadUrl(videoOne, expectedType);
+
+        // then
+        Assertions.assertTrue(actualUrl.isEmpty());
+        Assertions.assertEquals(expectedResource.name(), this.mediaResourceGateway.getResource(videoOne, expectedType).get().name());
+    }
+
+    @Test
+    public void givenStorageThatCannotSign_whenCallsGetDownloadUrl_shouldNotReadTheStorage() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var reads = new AtomicInteger();
+
+        final var storage = new InMemoryStorageService() {
+            @Override
+            public Optional<Resource> get(final String id) {
+                reads.incrementAndGet();
+                return super.get(id);
+            }
+        };
+
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+        props.setDownloadUrlTtlSeconds(300);
+        final var gateway = new DefaultMediaResourceGateway(props, storage, new ImageResourceCache(0));
+
+        gateway.storeAudioVideo(videoOne, VideoResource.with(expectedType, resource(expectedType)));
+        reads.set(0);
+
+        // when
+        final var actualUrl = gateway.getDownloadUrl(videoOne, expectedType);
+
+        // then
+        Assertions.assertTrue(actualUrl.isEmpty());
+        Assertions.assertEquals(0, reads.get());
+    }
+
+    @Test
+    public void givenUploadSession_whenClientUploadsAndCompletes_shouldPointTheMediaToTheUploadedBlob() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = resource(expectedType);
+        final var expectedName = "master.mp4";
+
+        final var aSession =
+                this.mediaResourceGateway.createUploadSession(videoOne, expectedType, expectedResource.contentType()).get();
+
+        Assertions.assertTrue(aSession.url().startsWith(InMemoryStorageService.UPLOAD_SCHEME));
+        Assertions.assertEquals("PUT", aSession.method());
+
+        final var expectedStaged = aSession.url().substring(InMemoryStorageService.UPLOAD_SCHEME.length());
+        final var expectedLocation = "blobs/" + expectedStaged.substring("staging/".length());
+        Assertions.assertTrue(expectedStaged.startsWith("staging/upload-"));
+        storageService().store(expectedStaged, expectedResource);
+
+        // when
+        final var actualMedia =
+                this.mediaResourceGateway.completeAudioVideoUpload(videoOne, expectedType, aSession.id(), expectedName).get();
+
+        // then
+        Assertions.assertEquals(expectedLocation, actualMedia.rawLocation());
+        Assertions.assertTrue(storageService().get(expectedStaged).isEmpty());
+        Assertions.assertTrue(storageService().get(expectedLocation).isPresent());
+        Assertions.assertEquals(expectedResource.checksum(), actualMedia.checksum());
+        Assertions.assertEquals(expectedName, actualMedia.name());
+
+        final var actualResource = this.mediaResourceGateway.getResource(videoOne, expectedType).get();
+        Assertions.assertArrayEquals(expectedResource.content(), actualResource.content());
+        Assertions.assertEquals(expectedName, actualResource.name());
+
+        this.mediaResourceGateway.clearResources(videoOne);
+
+        Assertions.assertTrue(storageService().storage().isEmpty());
+    }
+
+    @Test
+    public void givenACompletedUploadSession_whenCallsCompleteAgain_shouldPointToTheSameBlob() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = resource(expectedType);
+
+        final var aSession =
+                this.mediaResourceGateway.createUploadSession(videoOne, expectedType, expectedResource.contentType()).get();
+
+        storageService().store(aSession.url().substring(InMemoryStorageService.UPLOAD_SCHEME.length()), expectedResource);
+
+        final var expectedMedia =
+                this.mediaResourceGateway.completeAudioVideoUpload(videoOne, expectedType, aSession.id(), "trailer.mp4").get();
+
+        // when
+        final var actualMedia =
+                this.mediaResourceGateway.completeAudioVideoUpload(videoOne, expectedType, aSession.id(), "trailer.mp4").get();
+
+        // then
+        Assertions.assertEquals(expectedMedia.rawLocation(), actualMedia.rawLocation());
+        Assertions.assertEquals(expectedMedia.checksum(), actualMedia.checksum());
+        Assertions.assertTrue(storageService().list("staging/").isEmpty());
+        Assertions.assertArrayEquals(
+                expectedResource.content(),
+                this.mediaResourceGateway.getResource(videoOne, expectedType).get().content()
+        );
+    }
+
+    @Test
+    public void givenUploadSessionOfAnotherVideo_whenCallsComplete_shouldReturnEmpty() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = resource(expectedType);
+
+        final var aSession =
+                this.mediaResourceGateway.createUploadSession(videoOne, expectedType, expectedResource.contentType()).get();
+
+        storageService().store(aSession.url().substring(InMemoryStorageService.UPLOAD_SCHEME.length()), expectedResource);
+
+        // when
+        final var actualMedia =
+                this.mediaResourceGateway.completeAudioVideoUpload(videoTwo, expectedType, aSession.id(), "trailer.mp4");
+
+        // then
+        Assertions.assertTrue(actualMedia.isEmpty());
+        Assertions.assertTrue(this.mediaResourceGateway.getResource(videoTwo, expectedType).isEmpty());
+    }
+
     @Test
     public void givenValidVideoId_whenCallsClearResources_shouldDeleteAll() {
         // given
@@ -164,7 +359,255 @@ class DefaultMediaResourceGatewayTest {
         );
     }
 
+    @Test
+    public void givenSameContentForTwoVideos_whenCallsStorageAudioVideo_shouldReadItOnceEachAndKeepOneBlob() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedContent = "trailer".getBytes();
+        final var expectedLocation = blobOf(expectedContent);
+        final var opened = new AtomicInteger();
+
+        final var aResource = Resource.with(
+                () -> {
+                    opened.incrementAndGet();
+                    return new ByteArrayInputStream(expectedContent);
+                },
+                expectedContent.length,
+                "video/mp4",
+                "trailer.mp4"
+        );
+
+        // when
+        final var mediaOne = this.mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(expectedType, aResource));
+        final var mediaTwo = this.mediaResourceGateway.storeAudioVideo(videoTwo, VideoResource.with(expectedType, aResource));
+
+        // then
+        Assertions.assertEquals(expectedLocation, mediaOne.rawLocation());
+        Assertions.assertEquals(expectedLocation, mediaTwo.rawLocation());
+        Assertions.assertEquals(mediaOne.checksum(), mediaTwo.checksum());
+
+        // every store reads the content once, the second staged copy is dropped for the blob already there
+        Assertions.assertEquals(2, opened.get());
+        Assertions.assertEquals(1, storageService().list("blobs/").size());
+        Assertions.assertTrue(storageService().list("staging/").isEmpty());
+        Assertions.assertEquals(2, storageService().list("refs/").size());
+
+        final var actualResource = this.mediaResourceGateway.getResource(videoTwo, expectedType).get();
+
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals("trailer.mp4", actualResource.name());
+        Assertions.assertEquals(mediaTwo.checksum(), actualResource.checksum());
+    }
+
+    @Test
+    public void givenSharedBlob_whenCallsClearResources_shouldDeleteItOnlyWithTheLastReference() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedResource = resource(expectedType);
+        final var expectedLocation = blobOf(expectedResource.content());
+
+        this.mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedType, expectedResource));
+        this.mediaResourceGateway.storeImage(videoTwo, VideoResource.with(expectedType, expectedResource));
+
+        // when
+        this.mediaResourceGateway.clearResources(videoOne);
+
+        // then
+        Assertions.assertTrue(storageService().storage().containsKey(expectedLocation));
+        Assertions.assertTrue(this.mediaResourceGateway.getResource(videoOne, expectedType).isEmpty());
+        Assertions.assertTrue(this.mediaResourceGateway.getResource(videoTwo, expectedType).isPresent());
+
+        // when
+        this.mediaResourceGateway.clearResources(videoTwo);
+
+        // then
+        Assertions.assertTrue(storageService().storage().isEmpty());
+    }
+
+    @Test
+    public void givenAStoreOfTheSameContentWhileTheLastReferenceIsCleared_whenBothFinish_shouldKeepTheBlob() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedContent = "shared video".getBytes();
+        final var expectedLocation = blobOf(expectedContent);
+        final var expectedReferences = "refs/" + expectedLocation.substring("blobs/".length()) + "/";
+        final var interleaved = new AtomicInteger();
+        final var gateway = new AtomicReference<DefaultMediaResourceGateway>();
+
+        // the second video is stored right after the clear saw no references and before it deletes the blob
+        final var storage = new InMemoryStorageService() {
+            @Override
+            public List<String> list(final String prefix) {
+                final var listed = super.list(prefix);
+                if (prefix.equals(expectedReferences) && listed.isEmpty() && interleaved.getAndIncrement() == 0) {
+                    gateway.get().storeAudioVideo(
+                            videoTwo,
+                            VideoResource.with(expectedType, streamed(expectedContent, "two.mp4"))
+                    );
+                }
+                return listed;
+            }
+        };
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+        gateway.set(new DefaultMediaResourceGateway(props, storage, new ImageResourceCache(0)));
+
+        gateway.get().storeAudioVideo(
+                videoOne,
+                VideoResource.with(expectedType, streamed(expectedContent, "one.mp4"))
+        );
+
+        // when
+        gateway.get().clearResources(videoOne);
+
+        // then
+        Assertions.assertEquals(1, interleaved.get());
+        Assertions.assertTrue(storage.storage().containsKey(expectedLocation));
+        Assertions.assertTrue(gateway.get().getResource(videoOne, expectedType).isEmpty());
+
+        final var actualResource = gateway.get().getResource(videoTwo, expectedType).get();
+
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals("two.mp4", actualResource.name());
+    }
+
+    @Test
+    public void givenReplacedContent_whenCallsStorageImage_shouldReleaseThePreviousBlob() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.THUMBNAIL;
+        final var oldContent = "old".getBytes();
+        final var newContent = "new".getBytes();
+
+        this.mediaResourceGateway.storeImage(
+                videoOne,
+                VideoResource.with(expectedType, Resource.with(oldContent, "00000000", "image/jpg", "old.jpg"))
+        );
+
+        // when
+        this.mediaResourceGateway.storeImage(
+                videoOne,
+                VideoResource.with(expectedType, Resource.with(newContent, "00000000", "image/jpg", "new.jpg"))
+        );
+
+        // then
+        Assertions.assertFalse(storageService().storage().containsKey(blobOf(oldContent)));
+        Assertions.assertTrue(storageService().storage().containsKey(blobOf(newContent)));
+        Assertions.assertEquals(1, storageService().list("refs/").size());
+    }
+
+    @Test
+    public void givenStoredImage_whenCallsGetResourceTwice_shouldServeTheSecondFromCache() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.THUMBNAIL;
+        final var expectedResource = resource(expectedType);
+        final var expectedHits = imageResourceCache.hits() + 1;
+
+        this.mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedType, expectedResource));
+        this.mediaResourceGateway.getResource(videoOne, expectedType);
+
+        // only the pointer is left to read, the bytes have to come from the cache
+        storageService().storage().remove(blobOf(expectedResource.content()));
+
+        // when
+        final var actualResult = this.mediaResourceGateway.getResource(videoOne, expectedType).get();
+
+        // then
+        Assertions.assertEquals(expectedHits, imageResourceCache.hits());
+        Assertions.assertArrayEquals(expectedResource.content(), actualResult.content());
+    }
+
+    @Test
+    public void givenCachedImage_whenCallsStorageImage_shouldServeTheNewContent() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedContent = "new banner".getBytes();
+
+        this.mediaResourceGateway.storeImage(
+                videoOne,
+                VideoResource.with(expectedType, Resource.with("old banner".getBytes(), "00000000", "image/jpg", "old.jpg"))
+        );
+        this.mediaResourceGateway.getResource(videoOne, expectedType);
+
+        // when
+        this.mediaResourceGateway.storeImage(
+                videoOne,
+                VideoResource.with(expectedType, Resource.with(expectedContent, "00000000", "image/jpg", "new.jpg"))
+        );
+
+        // then
+        final var actualResult = this.mediaResourceGateway.getResource(videoOne, expectedType).get();
+
+        Assertions.assertArrayEquals(expectedContent, actualResult.content());
+        Assertions.assertEquals("new.jpg", actualResult.name());
+    }
+
+    @Test
+    public void givenCachedImage_whenAnotherNodeReplacesIt_shouldServeTheNewContent() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.THUMBNAIL;
+        final var expectedContent = "replaced thumbnail".getBytes();
+
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+        final var otherNode = new DefaultMediaResourceGateway(props, storageService(), new ImageResourceCache(1024));
+
+        this.mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedType, resource(expectedType)));
+        this.mediaResourceGateway.getResource(videoOne, expectedType);
+
+        // when
+        otherNode.storeImage(
+                videoOne,
+                VideoResource.with(expectedType, Resource.with(expectedContent, "00000000", "image/jpg", "replaced.jpg"))
+        );
+
+        // then
+        final var actualResult = this.mediaResourceGateway.getResource(videoOne, expectedType).get();
+
+        Assertions.assertArrayEquals(expectedContent, actualResult.content());
+        Assertions.assertEquals("replaced.jpg", actualResult.name());
+    }
+
+    @Test
+    public void givenCachedImage_whenCallsClearResources_shouldNotServeItAnymore() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.THUMBNAIL_HALF;
+
+        this.mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedType, resource(expectedType)));
+        this.mediaResourceGateway.getResource(videoOne, expectedType);
+
+        // when
+        this.mediaResourceGateway.clearResources(videoOne);
+
+        // then
+        Assertions.assertTrue(this.mediaResourceGateway.getResource(videoOne, expectedType).isEmpty());
+    }
+
     private InMemoryStorageService storageService() {
         return (InMemoryStorageService) storageService;
     }
+
+    private static Resource streamed(final byte[] content, final String name) {
+        return Resource.with(() -> new ByteArrayInputStream(content), content.length, "video/mp4", name);
+    }
+
+    private static String blobOf(final byte[] content) {
+        try {
+            return "blobs/" + HashingUtils.sha256(new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
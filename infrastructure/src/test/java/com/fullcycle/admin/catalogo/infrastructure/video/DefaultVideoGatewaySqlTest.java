@@ -0,0 +1,253 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.SqlStatementRecorder;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@IntegrationTest
+@TestPropertySource(properties = SqlStatementRecorder.PROPERTY)
+public class DefaultVideoGatewaySqlTest {
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    private CastMember wesley;
+
+    private Category aulas;
+
+    private Genre tech;
+
+    private Video aula;
+
+    @BeforeEach
+    public void setUp() {
+        wesley = castMemberGateway.create(Fixture.CastMembers.wesley());
+        aulas = categoryGateway.create(Fixture.Categories.aulas());
+        tech = genreGateway.create(Fixture.Genres.tech());
+
+        aula = videoGateway.create(Video.newVideo(
+                "Aula de empreendedorismo",
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(aulas.getId()),
+                Set.of(tech.getId()),
+                Set.of(wesley.getId())
+        ));
+
+        SqlStatementRecorder.clear();
+    }
+
+    @Test
+    public void givenNoFilters_whenCallsFindAll_shouldSelectVideosWithoutJoinsOrDistinct() {
+        // given
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of());
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(1, actualPage.items().size());
+
+        final var actualSelects = SqlStatementRecorder.selectsFrom("videos");
+        assertEquals(2, actualSelects.size());
+        actualSelects.forEach(sql -> {
+            assertFalse(sql.contains("distinct"), sql);
+            assertFalse(sql.contains(" join "), sql);
+            assertFalse(sql.contains("exists"), sql);
+        });
+    }
+
+    @Test
+    public void givenOnlyCastMemberFilter_whenCallsFindAll_shouldAddASingleExistsOnCastMembers() {
+        // given
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(wesley.getId()), Set.of(), Set.of());
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(1, actualPage.items().size());
+
+        final var actualSelects = SqlStatementRecorder.selectsFrom("videos");
+        assertEquals(2, actualSelects.size());
+        actualSelects.forEach(sql -> {
+            assertEquals(1, occurrences(sql, "exists"), sql);
+            assertTrue(sql.contains("videos_cast_members"), sql);
+            assertFalse(sql.contains("videos_categories"), sql);
+            assertFalse(sql.contains("videos_genres"), sql);
+            assertFalse(sql.contains("distinct"), sql);
+            assertFalse(sql.contains(" join "), sql);
+        });
+    }
+
+    @Test
+    public void givenAllFilters_whenCallsFindAll_shouldAddOneExistsPerFilter() {
+        // given
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "aula",
+                "title",
+                "asc",
+                Set.of(wesley.getId()),
+                Set.of(aulas.getId()),
+                Set.of(tech.getId())
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(1, actualPage.items().size());
+
+        final var actualSelects = SqlStatementRecorder.selectsFrom("videos");
+        assertEquals(2, actualSelects.size());
+        actualSelects.forEach(sql -> {
+            assertEquals(3, occurrences(sql, "exists"), sql);
+            assertFalse(sql.contains("distinct"), sql);
+            assertFalse(sql.contains(" join "), sql);
+        });
+    }
+
+    @Test
+    public void givenWithoutTotal_whenCallsFindAll_shouldNotRunTheCountQuery() {
+        // given
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "", "title", "asc", Set.of(wesley.getId()), Set.of(), Set.of(), null, false
+        );
+
+        // when
+        videoGateway.findAll(aQuery);
+
+        // then
+        final List<String> actualSelects = SqlStatementRecorder.selectsFrom("videos");
+        assertEquals(1, actualSelects.size());
+        assertFalse(actualSelects.get(0).contains("count("), actualSelects.get(0));
+    }
+
+    @Test
+    public void givenAVideoWithMedia_whenCallsFindById_shouldReadItInTwoSelects() {
+        // given
+        final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedBanner = Fixture.Videos.image(VideoMediaType.BANNER);
+
+        videoGateway.update(aula.updateVideoMedia(expectedVideo).updateBannerMedia(expectedBanner));
+        SqlStatementRecorder.clear();
+
+        // when
+        final var actualVideo = videoGateway.findById(aula.getId()).get();
+
+        // then
+        assertEquals(2, SqlStatementRecorder.selects().size());
+
+        assertEquals(aula.getId(), actualVideo.getId());
+        assertEquals(aula.getTitle(), actualVideo.getTitle());
+        assertEquals(aula.getRating(), actualVideo.getRating());
+        assertEquals(aula.getLaunchedAt(), actualVideo.getLaunchedAt());
+        assertEquals(expectedVideo, actualVideo.getVideo().get());
+        assertEquals(expectedVideo.status(), actualVideo.getVideo().get().status());
+        assertEquals(expectedBanner, actualVideo.getBanner().get());
+        assertTrue(actualVideo.getTrailer().isEmpty());
+        assertTrue(actualVideo.getThumbnail().isEmpty());
+        assertEquals(Set.of(aulas.getId()), actualVideo.getCategories());
+        assertEquals(Set.of(tech.getId()), actualVideo.getGenres());
+        assertEquals(Set.of(wesley.getId()), actualVideo.getCastMembers());
+    }
+
+    @Test
+    public void givenOnlyANewTitle_whenCallsUpdate_shouldNotWriteTheAssociationTables() {
+        // given
+        final var expectedTitle = "Aula de empreendedorismo digital";
+
+        // when
+        videoGateway.update(aula.update(
+                expectedTitle,
+                aula.getDescription(),
+                aula.getLaunchedAt(),
+                aula.getDuration(),
+                aula.getOpened(),
+                aula.getPublished(),
+                aula.getRating(),
+                aula.getCategories(),
+                aula.getGenres(),
+                aula.getCastMembers()
+        ));
+
+        // then
+        assertEquals(1, SqlStatementRecorder.writesTo("videos").size());
+        assertTrue(SqlStatementRecorder.writesTo("videos_categories").isEmpty());
+        assertTrue(SqlStatementRecorder.writesTo("videos_genres").isEmpty());
+        assertTrue(SqlStatementRecorder.writesTo("videos_cast_members").isEmpty());
+        assertEquals(expectedTitle, videoGateway.findById(aula.getId()).get().getTitle());
+    }
+
+    @Test
+    public void givenAReplacedCategory_whenCallsUpdate_shouldDeleteAndInsertOnlyThatRow() {
+        // given
+        final var lives = categoryGateway.create(Fixture.Categories.lives());
+        SqlStatementRecorder.clear();
+
+        // when
+        final var actualVideo = videoGateway.update(aula.update(
+                aula.getTitle(),
+                aula.getDescription(),
+                aula.getLaunchedAt(),
+                aula.getDuration(),
+                aula.getOpened(),
+                aula.getPublished(),
+                aula.getRating(),
+                Set.of(lives.getId()),
+                aula.getGenres(),
+                aula.getCastMembers()
+        ));
+
+        // then
+        final var actualWrites = SqlStatementRecorder.writesTo("videos_categories");
+        assertEquals(2, actualWrites.size(), String.join("\n", actualWrites));
+        assertTrue(actualWrites.stream().anyMatch(sql -> sql.startsWith("delete")), String.join("\n", actualWrites));
+        assertTrue(actualWrites.stream().anyMatch(sql -> sql.startsWith("insert")), String.join("\n", actualWrites));
+        assertTrue(SqlStatementRecorder.writesTo("videos_genres").isEmpty());
+        assertTrue(SqlStatementRecorder.writesTo("videos_cast_members").isEmpty());
+
+        assertEquals(Set.of(lives.getId()), actualVideo.getCategories());
+        assertEquals(Set.of(lives.getId()), videoGateway.findById(aula.getId()).get().getCategories());
+    }
+
+    private static int occurrences(final String sql, final String token) {
+        return sql.split(token, -1).length - 1;
+    }
+}
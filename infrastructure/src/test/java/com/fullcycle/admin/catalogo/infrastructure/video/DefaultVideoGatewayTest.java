@@ -11,13 +11,19 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.video.repository.VideoRepository;
+import java.time.Instant;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.Optional;
 import java.util.Set;
 import javax.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,11 +31,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @IntegrationTest
@@ -369,6 +378,57 @@ public class DefaultVideoGatewayTest {
         assertEquals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name());
     }
 
+    @Test
+    public void givenAVideoWithSomeMedias_whenCallsFindMediaChecksum_shouldReturnOnlyThePersistedOnes() {
+        // given
+        final var expectedBanner = ImageMedia.with("a1b2c3d4", "banner", "/media/banner");
+
+        final var aVideo = videoGateway.create(
+                Video.newVideo(
+                                Fixture.title(),
+                                Fixture.Videos.description(),
+                                Year.of(Fixture.year()),
+                                Fixture.duration(),
+                                Fixture.bool(),
+                                Fixture.bool(),
+                                Fixture.Videos.rating(),
+                                Set.of(),
+                                Set.of(),
+                                Set.of()
+                        )
+                        .updateBannerMedia(expectedBanner)
+        );
+
+        // when
+        final var actualBanner = videoGateway.findMediaChecksum(aVideo.getId(), VideoMediaType.BANNER);
+        final var actualVideo = videoGateway.findMediaChecksum(aVideo.getId(), VideoMediaType.VIDEO);
+        final var actualUnknown = videoGateway.findMediaChecksum(VideoID.unique(), VideoMediaType.BANNER);
+
+        // then
+        assertEquals(Optional.of(expectedBanner.checksum()), actualBanner);
+        assertTrue(actualVideo.isEmpty());
+        assertTrue(actualUnknown.isEmpty());
+    }
+
+    @Test
+    public void givenAClaimedMediaLocationMigration_whenClaimsItAgain_shouldFail() {
+        // given
+        final var expectedFrom = "videoId-{videoId}/" + VideoID.unique().getValue();
+        final var expectedTo = "{hash}/videoId-{videoId}";
+
+        videoRepository.claimMediaLocationMigration(expectedFrom, expectedTo, "first", Instant.now());
+
+        // when
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () -> videoRepository.claimMediaLocationMigration(expectedFrom, expectedTo, "second", Instant.now())
+        );
+
+        // then
+        assertEquals(0, videoRepository.finishMediaLocationMigration(expectedFrom, expectedTo, "second", Instant.now()));
+        assertEquals(1, videoRepository.finishMediaLocationMigration(expectedFrom, expectedTo, "first", Instant.now()));
+    }
+
     @Test
     public void givenAInvalidVideoId_whenCallsFindById_shouldEmpty() {
         // given
@@ -394,6 +454,41 @@ public class DefaultVideoGatewayTest {
         assertTrue(actualVideo.isEmpty());
     }
 
+    @ParameterizedTest
+    @CsvSource({"123", "invalid", "zzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzz"})
+    public void givenAnIdThatIsNotHex_whenCallsTheGateway_shouldNotFindItWithoutQuerying(final String anId) {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(aulas.getId()),
+                Set.of(),
+                Set.of()
+        ));
+
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "", "title", "asc", Set.of(), Set.of(CategoryID.from(anId)), Set.of()
+        );
+
+        // when
+        final var actualVideo = videoGateway.findById(VideoID.from(anId));
+        final var actualChecksum = videoGateway.findMediaChecksum(VideoID.from(anId), VideoMediaType.VIDEO);
+        final var actualPage = videoGateway.findAll(aQuery);
+        videoGateway.deleteById(VideoID.from(anId));
+
+        // then
+        assertTrue(actualVideo.isEmpty());
+        assertTrue(actualChecksum.isEmpty());
+        assertEquals(0, actualPage.total());
+        assertTrue(actualPage.items().isEmpty());
+        assertTrue(videoRepository.existsById(aVideo.getId().getValue()));
+    }
+
     @Test
     public void givenEmptyParams_whenCallFindAll_shouldReturnAllList() {
         // given
@@ -734,6 +829,82 @@ public class DefaultVideoGatewayTest {
         assertEquals(expectedVideo, actualPage.items().get(0).title());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "title,asc",
+            "title,desc",
+            "createdAt,desc",
+    })
+    public void givenFollowCursor_whenCallsFindAll_shouldReturnTheSameOrderAsOffsetPages(
+            final String expectedSort,
+            final String expectedDirection
+    ) {
+        // given
+        mockVideos();
+
+        final var expectedTitles = videoGateway.findAll(new VideoSearchQuery(
+                0, 10, "", expectedSort, expectedDirection, Set.of(), Set.of(), Set.of()
+        )).items().stream().map(VideoPreview::title).toList();
+
+        // when
+        final var actualTitles = new ArrayList<String>();
+        String cursor = null;
+        do {
+            final var actualPage = videoGateway.findAll(new VideoSearchQuery(
+                    0, 1, "", expectedSort, expectedDirection, Set.of(), Set.of(), Set.of(), cursor
+            ));
+            assertEquals(4, actualPage.total());
+            actualPage.items().forEach(it -> actualTitles.add(it.title()));
+            cursor = actualPage.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertEquals(expectedTitles, actualTitles);
+    }
+
+    @Test
+    public void givenWithoutTotal_whenCallsFindAll_shouldReturnHasNextAndUnknownTotal() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+                1, 2, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, false
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(1, actualPage.currentPage());
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+        assertEquals(2, actualPage.items().size());
+        assertEquals("Não cometa esses erros ao trabalhar com Microsserviços", actualPage.items().get(0).title());
+        assertFalse(actualPage.hasNext());
+        assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenCursorAndCastMember_whenCallsFindAll_shouldReturnTheNextFilteredPage() {
+        // given
+        mockVideos();
+
+        final var firstPage = videoGateway.findAll(new VideoSearchQuery(
+                0, 1, "", "title", "asc", Set.of(wesley.getId()), Set.of(), Set.of()
+        ));
+
+        // when
+        final var actualPage = videoGateway.findAll(new VideoSearchQuery(
+                0, 1, "", "title", "asc", Set.of(wesley.getId()), Set.of(), Set.of(), firstPage.nextCursor()
+        ));
+
+        // then
+        assertEquals("Aula de empreendedorismo", firstPage.items().get(0).title());
+        assertEquals(2, actualPage.total());
+        assertEquals(1, actualPage.items().size());
+        assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(0).title());
+        assertNull(actualPage.nextCursor());
+    }
+
     private void mockVideos() {
         videoGateway.create(Video.newVideo(
                 "System Design no Mercado Livre na prática",
@@ -0,0 +1,165 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ImageResourceCacheTest {
+
+    @Test
+    public void givenCachedResource_whenCallsGet_shouldNotLoadItAgain() {
+        // given
+        final var target = new ImageResourceCache(1024);
+        final var expectedContent = "banner".getBytes();
+        final var loads = new AtomicInteger();
+
+        // when
+        target.get("banner", () -> load(loads, expectedContent));
+        final var actualResource = target.get("banner", () -> load(loads, expectedContent)).get();
+
+        // then
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, target.hits());
+        Assertions.assertEquals(1, target.misses());
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals("a1b2c3d4", actualResource.checksum());
+        Assertions.assertEquals("image/jpg", actualResource.contentType());
+        Assertions.assertEquals(expectedContent.length, target.usedBytes());
+    }
+
+    @Test
+    public void givenCacheFull_whenCallsGet_shouldEvictTheLeastRecentlyUsed() {
+        // given
+        final var target = new ImageResourceCache(10);
+        final var loads = new AtomicInteger();
+
+        target.get("one", () -> load(loads, "aaaa".getBytes()));
+        target.get("two", () -> load(loads, "bbbb".getBytes()));
+        target.get("one", () -> load(loads, "aaaa".getBytes()));
+
+        // when
+        target.get("three", () -> load(loads, "cccc".getBytes()));
+
+        // then
+        Assertions.assertEquals(8, target.usedBytes());
+
+        target.get("one", () -> load(loads, "aaaa".getBytes()));
+        target.get("two", () -> load(loads, "bbbb".getBytes()));
+
+        Assertions.assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void givenResourceLargerThanTheCache_whenCallsGet_shouldNotCacheIt() {
+        // given
+        final var target = new ImageResourceCache(4);
+        final var loads = new AtomicInteger();
+
+        // when
+        target.get("big", () -> load(loads, "too large".getBytes()));
+        target.get("big", () -> load(loads, "too large".getBytes()));
+
+        // then
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(0, target.usedBytes());
+    }
+
+    @Test
+    public void givenInvalidatedPrefix_whenCallsGet_shouldLoadItAgain() {
+        // given
+        final var target = new ImageResourceCache(1024);
+        final var loads = new AtomicInteger();
+
+        target.get("videoId-1/type-BANNER", () -> load(loads, "old".getBytes()));
+        target.get("videoId-2/type-BANNER", () -> load(loads, "other".getBytes()));
+
+        // when
+        target.invalidateAll("videoId-1/");
+        final var actualResource = target.get("videoId-1/type-BANNER", () -> load(loads, "new".getBytes())).get();
+        target.get("videoId-2/type-BANNER", () -> load(loads, "other".getBytes()));
+
+        // then
+        Assertions.assertEquals(3, loads.get());
+        Assertions.assertArrayEquals("new".getBytes(), actualResource.content());
+    }
+
+    @Test
+    public void givenInvalidationDuringLoad_whenCallsGet_shouldNotCacheTheLoadedContent() {
+        // given
+        final var target = new ImageResourceCache(1024);
+        final var loads = new AtomicInteger();
+
+        // when
+        target.get("banner", () -> {
+            target.invalidate("banner");
+            return load(loads, "stale".getBytes());
+        });
+
+        // then
+        Assertions.assertEquals(0, target.usedBytes());
+    }
+
+    @Test
+    public void givenCachedResource_whenCallsTransferTo_shouldWriteOnlyTheRange() {
+        // given
+        final var target = new ImageResourceCache(1024);
+        target.get("banner", () -> load(new AtomicInteger(), "0123456789".getBytes()));
+
+        final var out = new ByteArrayOutputStream();
+
+        // when
+        final var actualResource = target.get("banner", Optional::empty).get();
+        final var transferred = actualResource.transferTo(2, 5, Channels.newChannel(out));
+
+        // then
+        Assertions.assertEquals(5, transferred);
+        Assertions.assertEquals("23456", out.toString());
+    }
+
+    @Test
+    public void givenEvictedEntryStillBeingRead_whenCallsGet_shouldCacheNewEntriesWithinMaxBytes() throws Exception {
+        // given
+        final var target = new ImageResourceCache(8);
+        final var loads = new AtomicInteger();
+
+        final var reading = target.get("one", () -> load(loads, "aaaa".getBytes())).get().openStream();
+        target.get("two", () -> load(loads, "bbbb".getBytes()));
+        target.get("three", () -> load(loads, "cccc".getBytes()));
+
+        // when
+        target.get("four", () -> load(loads, "dddd".getBytes()));
+        final var actualResource = target.get("four", () -> load(loads, "dddd".getBytes())).get();
+
+        // then
+        Assertions.assertEquals(8, target.usedBytes());
+        Assertions.assertTrue(target.allocatedBytes() >= target.usedBytes());
+        Assertions.assertEquals(4, loads.get());
+        Assertions.assertArrayEquals("aaaa".getBytes(), reading.readAllBytes());
+        Assertions.assertArrayEquals("dddd".getBytes(), actualResource.content());
+    }
+
+    @Test
+    public void givenResourceHandedOutBeforeItsEntryWasEvicted_whenReadsIt_shouldReadTheCachedContent() {
+        // given
+        final var target = new ImageResourceCache(4);
+        final var loads = new AtomicInteger();
+
+        final var actualResource = target.get("one", () -> load(loads, "aaaa".getBytes())).get();
+
+        // when
+        target.get("two", () -> load(loads, "bbbb".getBytes()));
+
+        // then
+        Assertions.assertArrayEquals("aaaa".getBytes(), actualResource.content());
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private static Optional<Resource> load(final AtomicInteger loads, final byte[] content) {
+        loads.incrementAndGet();
+        return Optional.of(Resource.with(content, "a1b2c3d4", "image/jpg", "banner.jpg"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.repository.VideoRepository;
+import java.time.Duration;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+
+import static com.fullcycle.admin.catalogo.domain.Fixture.Videos.resource;
+
+// runs the migration against the real repository, so its queries are bound the way the database sees them
+@IntegrationTest
+public class MediaLocationMigrationRepositoryTest {
+
+    private static final String OLD_PATTERN = "videoId-{videoId}";
+    private static final String FILENAME_PATTERN = "type-{type}";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Test
+    public void givenVideosWithMediaUnderTheOldPattern_whenCallsMigrate_shouldMoveThemAcrossEveryPage() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var newPattern = IdUtils.randomUuid() + "/videoId-{videoId}";
+        final var oldPaths = new MediaPaths(OLD_PATTERN, FILENAME_PATTERN);
+        final var newPaths = new MediaPaths(newPattern, FILENAME_PATTERN);
+        final var expectedVideos = new ArrayList<Video>();
+
+        for (int i = 0; i < 3; i++) {
+            final var aVideo = newVideo();
+            final var oldBanner = oldPaths.filepath(aVideo.getId(), VideoMediaType.BANNER);
+            storageService.store(oldBanner, resource(VideoMediaType.BANNER));
+            expectedVideos.add(videoGateway.create(aVideo.updateBannerMedia(ImageMedia.with("123", "banner", oldBanner))));
+        }
+
+        final var migration = migration(newPattern, storageService);
+
+        // when
+        final var actualMoved = migration.migrate();
+
+        // then
+        Assertions.assertEquals(3, actualMoved);
+        Assertions.assertTrue(storageService.list("videoId-").isEmpty());
+
+        for (final var expectedVideo : expectedVideos) {
+            final var expectedBanner = newPaths.filepath(expectedVideo.getId(), VideoMediaType.BANNER);
+            final var actualVideo = videoGateway.findById(expectedVideo.getId()).orElseThrow();
+
+            Assertions.assertEquals(expectedBanner, actualVideo.getBanner().orElseThrow().location());
+            Assertions.assertTrue(storageService.get(expectedBanner).isPresent());
+        }
+    }
+
+    @Test
+    public void givenAClaimLeftUnfinishedByACrashedNode_whenCallsMigrate_shouldTakeItOverOnceStale() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var newPattern = IdUtils.randomUuid() + "/videoId-{videoId}";
+        final var aVideo = videoGateway.create(newVideo());
+        final var oldBanner = new MediaPaths(OLD_PATTERN, FILENAME_PATTERN).filepath(aVideo.getId(), VideoMediaType.BANNER);
+        storageService.store(oldBanner, resource(VideoMediaType.BANNER));
+
+        videoRepository.claimMediaLocationMigration(OLD_PATTERN, newPattern, "crashed", InstantUtils.now().minus(LEASE).minusSeconds(1));
+
+        // when
+        final var actualMoved = migration(newPattern, storageService).migrate();
+        final var actualMovedAgain = migration(newPattern, storageService).migrate();
+
+        // then
+        Assertions.assertEquals(1, actualMoved);
+        Assertions.assertEquals(0, actualMovedAgain);
+        Assertions.assertTrue(storageService.get(oldBanner).isEmpty());
+    }
+
+    @Test
+    public void givenAClaimWhoseLeaseIsStillRenewed_whenCallsMigrate_shouldMoveNothing() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var newPattern = IdUtils.randomUuid() + "/videoId-{videoId}";
+        final var aVideo = videoGateway.create(newVideo());
+        final var oldBanner = new MediaPaths(OLD_PATTERN, FILENAME_PATTERN).filepath(aVideo.getId(), VideoMediaType.BANNER);
+        storageService.store(oldBanner, resource(VideoMediaType.BANNER));
+
+        videoRepository.claimMediaLocationMigration(OLD_PATTERN, newPattern, "running", InstantUtils.now());
+
+        // when
+        final var actualMoved = migration(newPattern, storageService).migrate();
+
+        // then
+        Assertions.assertEquals(0, actualMoved);
+        Assertions.assertTrue(storageService.get(oldBanner).isPresent());
+    }
+
+    private MediaLocationMigration migration(final String newPattern, final InMemoryStorageService storageService) {
+        return new MediaLocationMigration(
+                OLD_PATTERN, newPattern, FILENAME_PATTERN, storageService, videoRepository, 2, LEASE
+        );
+    }
+
+    private static Video newVideo() {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
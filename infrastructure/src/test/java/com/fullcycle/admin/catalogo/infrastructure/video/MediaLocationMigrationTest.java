@@ -0,0 +1,269 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.repository.VideoRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+
+
+import static com.fullcycle.admin.catalogo.domain.Fixture.Videos.resource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MediaLocationMigrationTest {
+
+    private static final String OLD_PATTERN = "videoId-{videoId}";
+    private static final String NEW_PATTERN = "{hash}/videoId-{videoId}";
+    private static final String FILENAME_PATTERN = "type-{type}";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Test
+    public void givenHashPattern_whenCallsStoreAudioVideo_shouldStoreUnderTheHashOfTheVideoId() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var target = gateway(NEW_PATTERN, storageService);
+        final var expectedId = VideoID.from("a9b8c7d6e5f4a3b2c1d0e9f8a7b6c5d4");
+        final var expectedPointer = "%s/videoId-%s/type-VIDEO".formatted(
+                HashingUtils.sha256(expectedId.getValue()).substring(0, 4),
+                expectedId.getValue()
+        );
+
+        // when
+        target.storeAudioVideo(expectedId, VideoResource.with(VideoMediaType.VIDEO, resource(VideoMediaType.VIDEO)));
+
+        // then
+        Assertions.assertTrue(storageService.get(expectedPointer).isPresent());
+        Assertions.assertTrue(target.getResource(expectedId, VideoMediaType.VIDEO).isPresent());
+    }
+
+    @Test
+    public void givenMediaUnderTheOldPattern_whenCallsMigrate_shouldMovePointersAndLegacyObjects() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var videoRepository = Mockito.mock(VideoRepository.class);
+        final var expectedId = VideoID.unique();
+        final var expectedVideo = resource(VideoMediaType.VIDEO);
+        final var expectedBanner = resource(VideoMediaType.BANNER);
+
+        final var stored = gateway(OLD_PATTERN, storageService)
+                .storeAudioVideo(expectedId, VideoResource.with(VideoMediaType.VIDEO, expectedVideo));
+
+        final var oldBanner = "videoId-%s/type-BANNER".formatted(expectedId.getValue());
+        storageService.store(oldBanner, expectedBanner);
+
+        final var target = gateway(NEW_PATTERN, storageService);
+        final var newFolder = "%s/videoId-%s".formatted(MediaPaths.hashOf(expectedId), expectedId.getValue());
+        final var newBanner = newFolder + "/type-BANNER";
+
+        when(videoRepository.findFirstIds(any()))
+                .thenReturn(List.of(expectedId.getValue()));
+        when(videoRepository.findIdsAfter(eq(expectedId.getValue()), any()))
+                .thenReturn(List.of());
+        when(videoRepository.renewMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any(), any()))
+                .thenReturn(1);
+
+        final var migration =
+                new MediaLocationMigration(OLD_PATTERN, NEW_PATTERN, FILENAME_PATTERN, storageService, videoRepository, 10, LEASE);
+
+        // when
+        final var actualMoved = migration.migrate();
+
+        // then
+        Assertions.assertEquals(2, actualMoved);
+        Assertions.assertTrue(storageService.list("videoId-").isEmpty());
+        Assertions.assertEquals(
+                List.of("refs/" + stored.rawLocation().substring("blobs/".length()) + "/" + newFolder + "/type-VIDEO"),
+                storageService.list("refs/")
+        );
+        Assertions.assertTrue(storageService.get(stored.rawLocation()).isPresent());
+
+        final var actualVideo = target.getResource(expectedId, VideoMediaType.VIDEO).get();
+        final var actualBanner = target.getResource(expectedId, VideoMediaType.BANNER).get();
+        Assertions.assertArrayEquals(expectedVideo.content(), actualVideo.content());
+        Assertions.assertArrayEquals(expectedBanner.content(), actualBanner.content());
+
+        verify(videoRepository).updateImageMediaLocation(oldBanner, newBanner);
+        verify(videoRepository, never()).updateAudioVideoMediaLocation(any(), any());
+    }
+
+    @Test
+    public void givenRenditionsUnderTheOldFolder_whenCallsMigrate_shouldMoveThemAndTheirEncodedPath() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var videoRepository = Mockito.mock(VideoRepository.class);
+        final var expectedId = VideoID.unique();
+
+        gateway(OLD_PATTERN, storageService)
+                .storeAudioVideo(expectedId, VideoResource.with(VideoMediaType.VIDEO, resource(VideoMediaType.VIDEO)));
+
+        final var oldFolder = "videoId-%s/".formatted(expectedId.getValue());
+        final var newFolder = "%s/videoId-%s/".formatted(MediaPaths.hashOf(expectedId), expectedId.getValue());
+        final var expectedRenditions = List.of("encoded/VIDEO/720p.mp4", "encoded/VIDEO/manifest.mpd");
+        expectedRenditions.forEach(it -> storageService.store(oldFolder + it, resource(VideoMediaType.VIDEO)));
+
+        when(videoRepository.findFirstIds(any()))
+                .thenReturn(List.of(expectedId.getValue()));
+        when(videoRepository.findIdsAfter(eq(expectedId.getValue()), any()))
+                .thenReturn(List.of());
+        when(videoRepository.renewMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any(), any()))
+                .thenReturn(1);
+        when(videoRepository.findEncodedLocationsById(expectedId.getValue()))
+                .thenReturn(List.of(oldFolder + "encoded/VIDEO", "elsewhere/encoded"));
+
+        final var migration =
+                new MediaLocationMigration(OLD_PATTERN, NEW_PATTERN, FILENAME_PATTERN, storageService, videoRepository, 10, LEASE);
+
+        // when
+        final var actualMoved = migration.migrate();
+
+        // then
+        Assertions.assertEquals(3, actualMoved);
+        Assertions.assertTrue(storageService.list(oldFolder).isEmpty());
+        Assertions.assertEquals(
+                List.of(newFolder + "encoded/VIDEO/720p.mp4", newFolder + "encoded/VIDEO/manifest.mpd", newFolder + "type-VIDEO"),
+                storageService.list(newFolder)
+        );
+
+        verify(videoRepository).updateAudioVideoEncodedLocation(oldFolder + "encoded/VIDEO", newFolder + "encoded/VIDEO");
+        verify(videoRepository, never()).updateAudioVideoEncodedLocation(eq("elsewhere/encoded"), any());
+        verify(videoRepository).finishMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any());
+    }
+
+    @Test
+    public void givenAStaleUnfinishedClaim_whenCallsMigrate_shouldTakeItOverAndResumeAfterTheLastVideoDone() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var videoRepository = Mockito.mock(VideoRepository.class);
+        final var doneId = VideoID.unique();
+        final var expectedId = VideoID.unique();
+
+        storageService.store("videoId-%s/type-BANNER".formatted(expectedId.getValue()), resource(VideoMediaType.BANNER));
+
+        when(videoRepository.claimMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(videoRepository.takeOverMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any(), any()))
+                .thenReturn(1);
+        when(videoRepository.findMediaLocationMigrationProgress(OLD_PATTERN, NEW_PATTERN))
+                .thenReturn(Optional.of(doneId.getValue()));
+        when(videoRepository.findIdsAfter(eq(doneId.getValue()), any()))
+                .thenReturn(List.of(expectedId.getValue()));
+        when(videoRepository.findIdsAfter(eq(expectedId.getValue()), any()))
+                .thenReturn(List.of());
+        when(videoRepository.renewMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any(), any()))
+                .thenReturn(1);
+
+        final var migration =
+                new MediaLocationMigration(OLD_PATTERN, NEW_PATTERN, FILENAME_PATTERN, storageService, videoRepository, 10, LEASE);
+
+        // when
+        final var actualMoved = migration.migrate();
+
+        // then
+        Assertions.assertEquals(1, actualMoved);
+        verify(videoRepository, never()).findFirstIds(any());
+        verify(videoRepository).renewMediaLocationMigration(
+                eq(OLD_PATTERN), eq(NEW_PATTERN), any(), eq(expectedId.getValue()), any()
+        );
+        verify(videoRepository).finishMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any());
+    }
+
+    @Test
+    public void givenALeaseTakenOverWhileRunning_whenCallsMigrate_shouldStopWithoutFinishing() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var videoRepository = Mockito.mock(VideoRepository.class);
+        final var expectedId = VideoID.unique();
+
+        when(videoRepository.findFirstIds(any()))
+                .thenReturn(List.of(expectedId.getValue()));
+        when(videoRepository.renewMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any(), any()))
+                .thenReturn(0);
+
+        final var migration =
+                new MediaLocationMigration(OLD_PATTERN, NEW_PATTERN, FILENAME_PATTERN, storageService, videoRepository, 10, LEASE);
+
+        // when
+        migration.migrate();
+
+        // then
+        verify(videoRepository, never()).findIdsAfter(any(), any());
+        verify(videoRepository, never()).finishMediaLocationMigration(any(), any(), any(), any());
+    }
+
+    @Test
+    public void givenAMigrationClaimedByAnotherNode_whenCallsMigrate_shouldMoveNothing() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var videoRepository = Mockito.mock(VideoRepository.class);
+        final var expectedId = VideoID.unique();
+
+        gateway(OLD_PATTERN, storageService)
+                .storeAudioVideo(expectedId, VideoResource.with(VideoMediaType.VIDEO, resource(VideoMediaType.VIDEO)));
+        final var expectedKeys = storageService.list("");
+
+        when(videoRepository.claimMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(videoRepository.takeOverMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any(), any()))
+                .thenReturn(0);
+
+        final var migration =
+                new MediaLocationMigration(OLD_PATTERN, NEW_PATTERN, FILENAME_PATTERN, storageService, videoRepository, 10, LEASE);
+
+        // when
+        final var actualMoved = migration.migrate();
+
+        // then
+        Assertions.assertEquals(0, actualMoved);
+        Assertions.assertEquals(expectedKeys, storageService.list(""));
+        verify(videoRepository, never()).findFirstIds(any());
+    }
+
+    @Test
+    public void givenMigratedMedia_whenCallsMigrateAgain_shouldMoveNothing() {
+        // given
+        final var storageService = new InMemoryStorageService();
+        final var videoRepository = Mockito.mock(VideoRepository.class);
+        final var expectedId = VideoID.unique();
+
+        gateway(NEW_PATTERN, storageService)
+                .storeAudioVideo(expectedId, VideoResource.with(VideoMediaType.VIDEO, resource(VideoMediaType.VIDEO)));
+        final var expectedKeys = storageService.list("");
+
+        when(videoRepository.findFirstIds(any()))
+                .thenReturn(List.of(expectedId.getValue()));
+        when(videoRepository.findIdsAfter(eq(expectedId.getValue()), any()))
+                .thenReturn(List.of());
+        when(videoRepository.renewMediaLocationMigration(eq(OLD_PATTERN), eq(NEW_PATTERN), any(), any(), any()))
+                .thenReturn(1);
+
+        final var migration =
+                new MediaLocationMigration(OLD_PATTERN, NEW_PATTERN, FILENAME_PATTERN, storageService, videoRepository, 10, LEASE);
+
+        // when
+        final var actualMoved = migration.migrate();
+
+        // then
+        Assertions.assertEquals(0, actualMoved);
+        Assertions.assertEquals(expectedKeys, storageService.list(""));
+    }
+
+    private static DefaultMediaResourceGateway gateway(final String locationPattern, final InMemoryStorageService storageService) {
+        final var props = new StorageProperties();
+        props.setLocationPattern(locationPattern);
+        props.setFilenamePattern(FILENAME_PATTERN);
+        return new DefaultMediaResourceGateway(props, storageService, new ImageResourceCache(0));
+    }
+}